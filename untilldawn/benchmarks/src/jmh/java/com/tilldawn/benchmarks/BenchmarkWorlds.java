@@ -0,0 +1,109 @@
+package com.tilldawn.benchmarks;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.tilldawn.Models.BulletSystem;
+import com.tilldawn.Models.Enemy.Enemy;
+import com.tilldawn.Models.Enemy.EnemyManager;
+import com.tilldawn.Models.Enemy.EnemyType;
+import com.tilldawn.Models.Enemy.TentacleMonsterEnemy;
+import com.tilldawn.Models.GameWorld;
+import com.tilldawn.Models.Hero.HeroType;
+import com.tilldawn.Models.Hero.WeaponType;
+
+final class BenchmarkWorlds {
+    static final float TICK = 1f / 60f;
+    static final long SEED = 42L;
+    static final int EPISODE_TICKS = 30;
+
+    private BenchmarkWorlds() {
+    }
+
+    static GameWorld newWorld() {
+        GameWorld world = new GameWorld(HeroType.DIAMOND, WeaponType.SMGS_DUAL, 20, SEED);
+        world.getEnemyManager().clearAllEnemies();
+        world.getEnemyManager().setSpawningEnabled(false);
+        return world;
+    }
+
+    static int runEpisode(EnemyManager manager, Vector2 playerPosition) {
+        resetTentacles(manager.getEnemies());
+        for (int tick = 0; tick < EPISODE_TICKS; tick++) {
+            manager.update(TICK, playerPosition);
+        }
+        return manager.getEnemies().size;
+    }
+
+    static void checkEnemyCount(EnemyManager manager, int expected) {
+        if (manager.getEnemies().size != expected) {
+            throw new IllegalStateException("Expected " + expected + " enemies but the world holds "
+                + manager.getEnemies().size);
+        }
+    }
+
+    static void checkBulletCount(BulletSystem bullets, int expected) {
+        if (bullets.size() != expected) {
+            throw new IllegalStateException("Expected " + expected + " bullets but the world holds "
+                + bullets.size());
+        }
+    }
+
+    static void scatterTentacles(EnemyManager manager, int count, RandomXS128 random) {
+        for (int i = 0; i < count; i++) {
+            manager.addCustomEnemy(new ResettableTentacle(randomX(random), randomY(random)));
+        }
+    }
+
+    static void resetTentacles(Array<Enemy> enemies) {
+        for (int i = 0; i < enemies.size; i++) {
+            Enemy enemy = enemies.get(i);
+            if (enemy instanceof ResettableTentacle) {
+                ((ResettableTentacle) enemy).reset();
+            }
+        }
+    }
+
+    static void scatterTargets(EnemyManager manager, int count, RandomXS128 random) {
+        for (int i = 0; i < count; i++) {
+            manager.addCustomEnemy(new TargetEnemy(randomX(random), randomY(random)));
+        }
+    }
+
+    static float randomX(RandomXS128 random) {
+        return random.nextFloat() * GameWorld.WORLD_WIDTH;
+    }
+
+    static float randomY(RandomXS128 random) {
+        return random.nextFloat() * GameWorld.WORLD_HEIGHT;
+    }
+
+    static final class ResettableTentacle extends TentacleMonsterEnemy {
+        private final float spawnX;
+        private final float spawnY;
+
+        ResettableTentacle(float x, float y) {
+            super(x, y);
+            this.spawnX = x;
+            this.spawnY = y;
+        }
+
+        void reset() {
+            x = previousX = spawnX;
+            y = previousY = spawnY;
+            bounds.setPosition(x - width / 2, y - height / 2);
+        }
+    }
+
+    static final class TargetEnemy extends Enemy {
+
+        TargetEnemy(float x, float y) {
+            super(EnemyType.TENTACLE_MONSTER, x, y, 40, 40);
+            this.health = Integer.MAX_VALUE;
+        }
+
+        @Override
+        protected void updateBehavior(float delta, Vector2 playerPosition) {
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.tilldawn.benchmarks;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import com.tilldawn.Models.BulletSystem;
+import com.tilldawn.Models.GameWorld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Thread)
+public class BulletSystemBenchmark {
+    @Param({"100", "1000", "10000"})
+    int entityCount;
+
+    private BulletSystem bullets;
+    private Vector2 playerPosition;
+    private float[] directionX;
+    private float[] directionY;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GameWorld world = BenchmarkWorlds.newWorld();
+        bullets = world.getEnemyManager().getBulletSystem();
+        playerPosition = world.getPlayerPosition();
+
+        RandomXS128 random = new RandomXS128(BenchmarkWorlds.SEED);
+        directionX = new float[entityCount];
+        directionY = new float[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            float angle = random.nextFloat() * (float) (Math.PI * 2);
+            directionX[i] = (float) Math.cos(angle);
+            directionY[i] = (float) Math.sin(angle);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void checkCount() {
+        BenchmarkWorlds.checkBulletCount(bullets, entityCount);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkWorlds.EPISODE_TICKS)
+    public int update() {
+        reloadBullets();
+        for (int tick = 0; tick < BenchmarkWorlds.EPISODE_TICKS; tick++) {
+            bullets.update(BenchmarkWorlds.TICK);
+        }
+        return bullets.size();
+    }
+
+    private void reloadBullets() {
+        bullets.clear();
+        for (int i = 0; i < entityCount; i++) {
+            bullets.spawn(playerPosition.x, playerPosition.y, directionX[i], directionY[i], 10, BulletSystem.OWNER_PLAYER);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.tilldawn.benchmarks;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+
+final class CountingConnection {
+    private final Connection connection;
+    private long executedStatements;
+
+    CountingConnection(Connection target) {
+        this.connection = proxy(Connection.class, target);
+    }
+
+    Connection connection() {
+        return connection;
+    }
+
+    long executedStatements() {
+        return executedStatements;
+    }
+
+    void reset() {
+        executedStatements = 0;
+    }
+
+    private <T> T proxy(final Class<T> type, final Object target) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object self, Method method, Object[] args) throws Throwable {
+                if (method.getName().startsWith("execute")) {
+                    executedStatements++;
+                }
+
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+
+
+                Class<?> returnType = method.getReturnType();
+                if (result != null && Statement.class.isAssignableFrom(returnType) && returnType.isInterface()) {
+                    return proxy(returnType, result);
+                }
+                return result;
+            }
+        });
+        return type.cast(proxy);
+    }
+}
@@ -0,0 +1,104 @@
+package com.tilldawn.benchmarks;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.tilldawn.Models.Enemy.Enemy;
+import com.tilldawn.Models.Enemy.EnemyManager;
+import com.tilldawn.Models.Enemy.NeighbourGrid;
+import com.tilldawn.Models.GameWorld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Thread)
+public class CrowdSeparationBenchmark {
+    private static final float CROWD_RADIUS = 300;
+    private static final float SEPARATION_RADIUS = 40;
+    private static final int MAX_NEIGHBOURS = 8;
+
+    @Param({"1000", "2000", "4000", "8000"})
+    int entityCount;
+
+    private GameWorld world;
+    private EnemyManager manager;
+    private Vector2 playerPosition;
+    private Array<Enemy> crowd;
+    private NeighbourGrid grid;
+    private final Vector2 force = new Vector2();
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        world = BenchmarkWorlds.newWorld();
+        manager = world.getEnemyManager();
+        playerPosition = world.getPlayerPosition();
+
+        RandomXS128 random = new RandomXS128(BenchmarkWorlds.SEED);
+        for (int i = 0; i < entityCount; i++) {
+            float angle = random.nextFloat() * (float) (Math.PI * 2);
+            float distance = (float) Math.sqrt(random.nextFloat()) * CROWD_RADIUS;
+            manager.addCustomEnemy(new BenchmarkWorlds.ResettableTentacle(
+                playerPosition.x + distance * (float) Math.cos(angle),
+                playerPosition.y + distance * (float) Math.sin(angle)));
+        }
+
+        crowd = manager.getEnemies();
+        grid = new NeighbourGrid(GameWorld.WORLD_WIDTH, GameWorld.WORLD_HEIGHT, SEPARATION_RADIUS, MAX_NEIGHBOURS);
+    }
+
+    @TearDown(Level.Iteration)
+    public void checkCount() {
+        BenchmarkWorlds.checkEnemyCount(manager, entityCount);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkWorlds.EPISODE_TICKS)
+    public int update() {
+        return BenchmarkWorlds.runEpisode(manager, playerPosition);
+    }
+
+    @Benchmark
+    public float gridSeparation() {
+        grid.rebuild(crowd);
+
+        float total = 0;
+        for (int slot = 0; slot < grid.size(); slot++) {
+            grid.separation(slot, force);
+            total += force.x + force.y;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public float pairwiseSeparation() {
+        float radiusSquared = SEPARATION_RADIUS * SEPARATION_RADIUS;
+        float total = 0;
+
+        for (int i = 0; i < crowd.size; i++) {
+            Enemy enemy = crowd.get(i);
+            float forceX = 0;
+            float forceY = 0;
+            for (int j = 0; j < crowd.size; j++) {
+                if (i == j) continue;
+
+                Enemy other = crowd.get(j);
+                float dx = enemy.getX() - other.getX();
+                float dy = enemy.getY() - other.getY();
+                float distanceSquared = dx * dx + dy * dy;
+                if (distanceSquared == 0 || distanceSquared >= radiusSquared) continue;
+
+                float distance = (float) Math.sqrt(distanceSquared);
+                float weight = (1 - distance / SEPARATION_RADIUS) / distance;
+                forceX += dx * weight;
+                forceY += dy * weight;
+            }
+            total += forceX + forceY;
+        }
+        return total;
+    }
+}
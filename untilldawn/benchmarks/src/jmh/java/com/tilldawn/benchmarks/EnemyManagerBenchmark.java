@@ -0,0 +1,111 @@
+package com.tilldawn.benchmarks;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import com.tilldawn.Models.BulletSystem;
+import com.tilldawn.Models.Enemy.EnemyManager;
+import com.tilldawn.Models.GameWorld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+public class EnemyManagerBenchmark {
+
+    @State(Scope.Thread)
+    public static class UpdateState {
+        @Param({"100", "1000", "10000"})
+        int entityCount;
+
+        @Param({"false", "true"})
+        boolean parallel;
+
+        GameWorld world;
+        EnemyManager manager;
+        Vector2 playerPosition;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            world = BenchmarkWorlds.newWorld();
+            manager = world.getEnemyManager();
+            manager.setParallelUpdate(parallel);
+            playerPosition = world.getPlayerPosition();
+            BenchmarkWorlds.scatterTentacles(manager, entityCount, new RandomXS128(BenchmarkWorlds.SEED));
+        }
+
+        @TearDown(Level.Iteration)
+        public void checkCount() {
+            BenchmarkWorlds.checkEnemyCount(manager, entityCount);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class CollisionState {
+        @Param({"100", "1000", "10000"})
+        int entityCount;
+
+        GameWorld world;
+        EnemyManager manager;
+        BulletSystem bullets;
+        float[] bulletX;
+        float[] bulletY;
+        float[] directionX;
+        float[] directionY;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            RandomXS128 random = new RandomXS128(BenchmarkWorlds.SEED);
+            world = BenchmarkWorlds.newWorld();
+            manager = world.getEnemyManager();
+            bullets = manager.getBulletSystem();
+            BenchmarkWorlds.scatterTargets(manager, entityCount, random);
+
+            bulletX = new float[entityCount];
+            bulletY = new float[entityCount];
+            directionX = new float[entityCount];
+            directionY = new float[entityCount];
+            for (int i = 0; i < entityCount; i++) {
+                float angle = random.nextFloat() * (float) (Math.PI * 2);
+                bulletX[i] = BenchmarkWorlds.randomX(random);
+                bulletY[i] = BenchmarkWorlds.randomY(random);
+                directionX[i] = (float) Math.cos(angle);
+                directionY[i] = (float) Math.sin(angle);
+            }
+        }
+
+        @TearDown(Level.Iteration)
+        public void checkCount() {
+            BenchmarkWorlds.checkEnemyCount(manager, entityCount);
+        }
+
+        void reloadBullets() {
+            bullets.clear();
+            for (int i = 0; i < entityCount; i++) {
+                bullets.spawn(bulletX[i], bulletY[i], directionX[i], directionY[i], 10, BulletSystem.OWNER_PLAYER);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkWorlds.EPISODE_TICKS)
+    public int update(UpdateState state) {
+        return BenchmarkWorlds.runEpisode(state.manager, state.playerPosition);
+    }
+
+    @Benchmark
+    public int checkBulletCollisions(CollisionState state) {
+        state.reloadBullets();
+        state.manager.checkBulletCollisions(state.world);
+        return state.bullets.size();
+    }
+
+    @Benchmark
+    public int reloadBullets(CollisionState state) {
+        state.reloadBullets();
+        return state.bullets.size();
+    }
+}
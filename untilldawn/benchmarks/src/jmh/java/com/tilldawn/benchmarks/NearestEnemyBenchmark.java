@@ -0,0 +1,74 @@
+package com.tilldawn.benchmarks;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import com.tilldawn.Models.Enemy.Enemy;
+import com.tilldawn.Models.Enemy.EnemyManager;
+import com.tilldawn.Models.GameWorld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Thread)
+public class NearestEnemyBenchmark {
+    private static final int QUERY_POINTS = 1024;
+    private static final float QUERY_RANGE = 800f;
+
+    @Param({"100", "1000", "10000"})
+    int entityCount;
+
+    private GameWorld world;
+    private EnemyManager manager;
+    private Vector2 playerPosition;
+    private Vector2[] queryPoints;
+    private int nextQuery;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        world = BenchmarkWorlds.newWorld();
+        manager = world.getEnemyManager();
+        playerPosition = world.getPlayerPosition();
+        RandomXS128 random = new RandomXS128(BenchmarkWorlds.SEED);
+        BenchmarkWorlds.scatterTentacles(manager, entityCount, random);
+
+        queryPoints = new Vector2[QUERY_POINTS];
+        for (int i = 0; i < QUERY_POINTS; i++) {
+            queryPoints[i] = new Vector2(BenchmarkWorlds.randomX(random), BenchmarkWorlds.randomY(random));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void checkCount() {
+        BenchmarkWorlds.checkEnemyCount(manager, entityCount);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkWorlds.EPISODE_TICKS)
+    public int update() {
+        return BenchmarkWorlds.runEpisode(manager, playerPosition);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkWorlds.EPISODE_TICKS)
+    public Enemy updateAndFindNearest() {
+        BenchmarkWorlds.resetTentacles(manager.getEnemies());
+        Enemy nearest = null;
+        for (int tick = 0; tick < BenchmarkWorlds.EPISODE_TICKS; tick++) {
+            manager.update(BenchmarkWorlds.TICK, playerPosition);
+            nearest = world.findNearestEnemy();
+        }
+        return nearest;
+    }
+
+    @Benchmark
+    public Enemy findNearestEnemy() {
+        Vector2 point = queryPoints[nextQuery];
+        nextQuery = (nextQuery + 1) & (QUERY_POINTS - 1);
+        return manager.findNearestEnemy(point, QUERY_RANGE);
+    }
+}
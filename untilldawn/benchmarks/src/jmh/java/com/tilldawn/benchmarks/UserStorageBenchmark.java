@@ -0,0 +1,162 @@
+package com.tilldawn.benchmarks;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.tilldawn.Models.Leaderboard;
+import com.tilldawn.Models.SaveDatas.SqliteUserStorage;
+import com.tilldawn.Models.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+@State(Scope.Thread)
+public class UserStorageBenchmark {
+    private static final String UPDATE_SQL =
+        "UPDATE users SET password = ?, security_question = ?, security_answer = ?, avatar_path = ?, " +
+            "last_weapon_used = ?, last_game_time = ?, last_hero_used = ?, high_score = ?, total_games_played = ?, " +
+            "total_kills = ?, longest_survival_time = ?, total_survival_time = ? WHERE username = ?";
+
+    @Param({"100", "1000", "10000"})
+    int entityCount;
+
+    private HeadlessApplication application;
+    private File databaseFile;
+    private CountingConnection counter;
+    private SqliteUserStorage storage;
+    private User savedUser;
+    private int saveCounter;
+    private long saves;
+
+    @Setup
+    public void setUp() throws IOException, SQLException {
+        application = new HeadlessApplication(new ApplicationAdapter() {});
+        application.setLogLevel(Application.LOG_ERROR);
+
+        databaseFile = File.createTempFile("tilldawn-bench", ".db");
+        counter = new CountingConnection(DriverManager.getConnection("jdbc:sqlite:" + databaseFile.getPath()));
+        storage = new SqliteUserStorage(counter.connection());
+        seedUsers();
+        savedUser = storage.loadUser("player0");
+        counter.reset();
+    }
+
+    @TearDown
+    public void tearDown(BenchmarkParams params) {
+        if (saves > 0) {
+            System.out.printf("%n%s: %d statements over %d saves, %.2f round-trips per save%n",
+                params.getBenchmark(), counter.executedStatements(), saves,
+                (double) counter.executedStatements() / saves);
+        }
+
+        storage.close();
+        application.exit();
+        databaseFile.delete();
+    }
+
+    @Benchmark
+    public List<User> loadAllUsers() {
+        return storage.loadAllUsers();
+    }
+
+    @Benchmark
+    public void saveUser() {
+        savedUser.setHighScore(++saveCounter);
+        storage.saveUser(savedUser);
+        saves++;
+    }
+
+    @Benchmark
+    public void saveUserSelectThenUpdate() throws SQLException {
+        savedUser.setHighScore(++saveCounter);
+        Connection connection = counter.connection();
+
+        boolean exists;
+        try (PreparedStatement pstmt = connection.prepareStatement("SELECT 1 FROM users WHERE username = ?")) {
+            pstmt.setString(1, savedUser.getUserName());
+            try (ResultSet rs = pstmt.executeQuery()) {
+                exists = rs.next();
+            }
+        }
+
+        if (exists) {
+            try (PreparedStatement pstmt = connection.prepareStatement(UPDATE_SQL)) {
+                pstmt.setString(1, savedUser.getPassword());
+                pstmt.setString(2, savedUser.getSecurityQuestion());
+                pstmt.setString(3, savedUser.getSecurityAnswer());
+                pstmt.setString(4, savedUser.getAvatarPath());
+                pstmt.setString(5, savedUser.getLastWeaponUsed());
+                pstmt.setInt(6, savedUser.getLastGameTime());
+                pstmt.setString(7, savedUser.getLastHeroUsed());
+                pstmt.setInt(8, savedUser.getHighScore());
+                pstmt.setInt(9, savedUser.getTotalGamesPlayed());
+                pstmt.setInt(10, savedUser.getTotalKills());
+                pstmt.setFloat(11, savedUser.getLongestSurvivalTime());
+                pstmt.setFloat(12, savedUser.getTotalSurvivalTime());
+                pstmt.setString(13, savedUser.getUserName());
+                pstmt.executeUpdate();
+            }
+        }
+        saves++;
+    }
+
+    @Benchmark
+    public User loadUser() {
+        return storage.loadUser("player" + (entityCount / 2));
+    }
+
+    @Benchmark
+    public List<User> loadTopUsers() {
+        return storage.loadTopUsers(Leaderboard.SortType.SCORE, false, entityCount / 2, 50);
+    }
+
+    @Benchmark
+    public int getUserRank() {
+        return storage.getUserRank("player" + (entityCount / 2), Leaderboard.SortType.KILLS);
+    }
+
+    private void seedUsers() throws SQLException {
+        String sql = "INSERT INTO users (username, password, security_question, security_answer, avatar_path, " +
+            "last_weapon_used, last_game_time, last_hero_used, high_score, total_games_played, " +
+            "total_kills, longest_survival_time, total_survival_time) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + databaseFile.getPath())) {
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                for (int i = 0; i < entityCount; i++) {
+                    pstmt.setString(1, "player" + i);
+                    pstmt.setString(2, "Password" + i + "!");
+                    pstmt.setString(3, "What is your favorite color?");
+                    pstmt.setString(4, "blue");
+                    pstmt.setString(5, "avatars/avatar" + (i % 8) + ".png");
+                    pstmt.setString(6, "REVOLVER");
+                    pstmt.setInt(7, 20);
+                    pstmt.setString(8, "SHANA");
+                    pstmt.setInt(9, (i * 7919) % 100000);
+                    pstmt.setInt(10, i % 50);
+                    pstmt.setInt(11, (i * 31) % 5000);
+                    pstmt.setFloat(12, (i % 1200) * 1.5f);
+                    pstmt.setFloat(13, (i % 1200) * 12.5f);
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+            }
+
+            connection.commit();
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.tilldawn.Controllers;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
 import com.tilldawn.Main;
+import com.tilldawn.Models.AssetManifest;
 import com.tilldawn.Models.GameAssetManager;
 import com.tilldawn.Models.Hero.HeroType;
 import com.tilldawn.Models.Hero.WeaponType;
@@ -9,6 +11,7 @@ import com.tilldawn.Models.SaveData;
 import com.tilldawn.Models.User;
 import com.tilldawn.Views.GameOverScreen;
 import com.tilldawn.Views.GameView;
+import com.tilldawn.Views.LoadingScreen;
 import com.tilldawn.Views.MainMenu;
 
 public class GameController {
@@ -23,12 +26,16 @@ public class GameController {
         this.selectedHero = hero;
         this.selectedWeapon = weapon;
         this.gameTimeMinutes = timeMinutes;
-
-        this.gameView = new GameView(this, hero, weapon, timeMinutes);
     }
 
     public void startGame() {
-        Main.getMain().setScreen(gameView);
+        Main.getMain().setScreen(new LoadingScreen(new LoadingScreen.ScreenFactory() {
+            @Override
+            public Screen create() {
+                gameView = new GameView(GameController.this, selectedHero, selectedWeapon, gameTimeMinutes);
+                return gameView;
+            }
+        }, AssetManifest.GAME, AssetManifest.GAME_OVER));
     }
 
     public void pauseGame() {
@@ -79,7 +86,7 @@ public class GameController {
         }
 
 
-        Main.getMain().setScreen(new GameOverScreen(this, isVictory, kills, survivalTime));
+        showGameOver(isVictory, kills, survivalTime);
     }
 
         public void giveUp() {
@@ -114,10 +121,19 @@ public class GameController {
             }
 
 
-            Main.getMain().setScreen(new GameOverScreen(this, false, kills, survivalTime));
+            showGameOver(false, kills, survivalTime);
         }
     }
 
+    private void showGameOver(final boolean isVictory, final int kills, final float survivalTime) {
+        Main.getMain().setScreen(new LoadingScreen(new LoadingScreen.ScreenFactory() {
+            @Override
+            public Screen create() {
+                return new GameOverScreen(GameController.this, isVictory, kills, survivalTime);
+            }
+        }, AssetManifest.GAME_OVER));
+    }
+
 
     public void returnToMainMenu() {
 
@@ -140,7 +140,7 @@ public class PreGameMenuController {
 
 
         GameController gameController = new GameController(selectedHero, selectedWeapon, selectedTime);
-        Main.getMain().setScreen(gameController.getGameScreen());
+        gameController.startGame();
     }
 
         public void setSelectedWeapon(WeaponType weapon) {
@@ -17,4 +17,12 @@ public class SettingMenuController {
     public void setControlType(GameSettings.ControlType controlType) {
         GameSettings.getInstance().setControlType(controlType);
     }
+
+    public boolean isThreadedSimulation() {
+        return GameSettings.getInstance().isThreadedSimulation();
+    }
+
+    public void setThreadedSimulation(boolean threadedSimulation) {
+        GameSettings.getInstance().setThreadedSimulation(threadedSimulation);
+    }
 }
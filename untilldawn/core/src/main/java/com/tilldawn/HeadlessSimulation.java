@@ -0,0 +1,65 @@
+package com.tilldawn;
+
+import com.tilldawn.Models.GameWorld;
+import com.tilldawn.Models.Hero.AbilityType;
+import com.tilldawn.Models.Hero.HeroType;
+import com.tilldawn.Models.Hero.WeaponType;
+
+public class HeadlessSimulation {
+    private final GameWorld world;
+    private long ticks;
+
+    public HeadlessSimulation(HeroType hero, WeaponType weapon, int timeMinutes, long seed) {
+        this.world = new GameWorld(hero, weapon, timeMinutes, seed);
+        this.world.setAutoAim(true);
+    }
+
+    public GameWorld run() {
+        return run(Long.MAX_VALUE);
+    }
+
+    public GameWorld run(long maxTicks) {
+        while (!world.isGameOver() && ticks < maxTicks) {
+            world.tick(GameWorld.FIXED_TIMESTEP);
+            ticks++;
+
+            AbilityType[] choices = world.getPendingAbilityChoices();
+            if (choices != null) {
+                world.selectAbility(choices[0]);
+            }
+        }
+        return world;
+    }
+
+    public GameWorld getWorld() {
+        return world;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public static void main(String[] args) {
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : 1L;
+        int minutes = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        HeroType hero = args.length > 2 ? HeroType.valueOf(args[2]) : HeroType.DIAMOND;
+        WeaponType weapon = args.length > 3 ? WeaponType.valueOf(args[3]) : WeaponType.SMGS_DUAL;
+
+        HeadlessSimulation simulation = new HeadlessSimulation(hero, weapon, minutes, seed);
+
+        long start = System.nanoTime();
+        GameWorld world = simulation.run();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println("seed=" + seed
+            + " ticks=" + simulation.getTicks()
+            + " survival=" + world.getSurvivalTime()
+            + " kills=" + world.getPlayerKills()
+            + " level=" + world.getPlayerLevel()
+            + " health=" + world.getPlayerHealth()
+            + " enemies=" + world.getEnemyManager().getEnemies().size
+            + " bullets=" + world.getEnemyManager().getBulletSystem().size()
+            + " player=" + world.getPlayerPosition()
+            + " wallMillis=" + elapsedMillis);
+    }
+}
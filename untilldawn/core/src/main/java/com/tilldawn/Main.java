@@ -3,16 +3,19 @@ package com.tilldawn;
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.tilldawn.Controllers.MainMenuController;
+import com.tilldawn.Models.AssetManifest;
 import com.tilldawn.Models.GameAssetManager;
 import com.tilldawn.Models.GameCursor;
 import com.tilldawn.Models.MusicManager;
 import com.tilldawn.Models.SaveData;
+import com.tilldawn.Views.LoadingScreen;
 import com.tilldawn.Views.MainMenu;
 
 
@@ -30,7 +33,12 @@ public class Main extends Game {
         batch = new SpriteBatch();
         GameCursor.initialize();
         SaveData.getInstance();
-        main.setScreen(new MainMenu(new MainMenuController(), GameAssetManager.getGameAssetManager().getSkin()));
+        main.setScreen(new LoadingScreen(new LoadingScreen.ScreenFactory() {
+            @Override
+            public Screen create() {
+                return new MainMenu(new MainMenuController(), GameAssetManager.getGameAssetManager().getSkin());
+            }
+        }, AssetManifest.BOOT));
     }
 
     @Override
@@ -40,6 +48,7 @@ public class Main extends Game {
 
     @Override
     public void dispose() {
+        SaveData.getInstance().dispose();
         MusicManager.getInstance().dispose();
         GameAssetManager.getGameAssetManager().dispose();
         GameCursor.dispose();
@@ -0,0 +1,49 @@
+package com.tilldawn.Models;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Array;
+
+public class AssetManifest {
+    public static final String SKIN = "skin/pixthulhu-ui.json";
+    public static final String MAIN_MENU_BACKGROUND = "backgrounds/back1.png";
+    public static final String GAMEPLAY_ATLAS = "atlas/gameplay.atlas";
+    public static final String GAME_BACKGROUND = "backgrounds/game.png";
+    public static final String VICTORY_BACKGROUND = "backgrounds/YOUWIN.png";
+    public static final String DEFEAT_BACKGROUND = "backgrounds/YOULOSE.png";
+
+    public static final AssetManifest BOOT = new AssetManifest("Boot")
+        .add(SKIN, Skin.class)
+        .add(MAIN_MENU_BACKGROUND, Texture.class)
+        .add(GAMEPLAY_ATLAS, TextureAtlas.class);
+
+    public static final AssetManifest GAME = new AssetManifest("Game")
+        .add(GAME_BACKGROUND, Texture.class);
+
+    public static final AssetManifest GAME_OVER = new AssetManifest("GameOver")
+        .add(VICTORY_BACKGROUND, Texture.class)
+        .add(DEFEAT_BACKGROUND, Texture.class);
+
+    private final String name;
+    private final Array<AssetDescriptor<?>> assets;
+
+    public AssetManifest(String name) {
+        this.name = name;
+        this.assets = new Array<>();
+    }
+
+    public <T> AssetManifest add(String fileName, Class<T> type) {
+        assets.add(new AssetDescriptor<>(fileName, type));
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Array<AssetDescriptor<?>> getAssets() {
+        return assets;
+    }
+}
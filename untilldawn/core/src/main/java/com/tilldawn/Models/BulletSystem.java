@@ -0,0 +1,325 @@
+package com.tilldawn.Models;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.Arrays;
+
+public class BulletSystem {
+    public static final int OWNER_PLAYER = 0;
+    public static final int OWNER_ENEMY = 1;
+
+    public static final float BULLET_SPEED = 500;
+    public static final float BULLET_SIZE = 8;
+    private static final float HALF_SIZE = BULLET_SIZE / 2;
+    private static final float OUT_OF_BOUNDS_DISTANCE = 2000;
+    private static final int INITIAL_CAPACITY = 1024;
+
+
+    public static final float HOSTILE_CELL_SIZE = 128;
+    private static final int HOSTILE_BUCKETS = 256;
+    private static final int NO_BULLET = -1;
+
+    private static TextureRegion texture;
+
+    private float[] x;
+    private float[] y;
+    private float[] previousX;
+    private float[] previousY;
+    private float[] velocityX;
+    private float[] velocityY;
+    private float[] rotation;
+    private int[] damage;
+    private int[] owner;
+
+
+    private final int[] hostileHead = new int[HOSTILE_BUCKETS];
+    private int[] hostileBucket;
+    private int[] hostileNext;
+    private int[] hostilePrevious;
+
+    private final int[] ownerCounts = new int[2];
+    private int count;
+    private int highWaterMark;
+
+    public BulletSystem() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public BulletSystem(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        x = new float[capacity];
+        y = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        velocityX = new float[capacity];
+        velocityY = new float[capacity];
+        rotation = new float[capacity];
+        damage = new int[capacity];
+        owner = new int[capacity];
+        hostileBucket = new int[capacity];
+        hostileNext = new int[capacity];
+        hostilePrevious = new int[capacity];
+        Arrays.fill(hostileHead, NO_BULLET);
+    }
+
+    public int spawn(float startX, float startY, float directionX, float directionY, int bulletDamage, int bulletOwner) {
+        if (count == x.length) {
+            grow(count * 2);
+        }
+
+        int i = count++;
+        x[i] = startX;
+        y[i] = startY;
+        previousX[i] = startX;
+        previousY[i] = startY;
+        velocityX[i] = directionX * BULLET_SPEED;
+        velocityY[i] = directionY * BULLET_SPEED;
+        rotation[i] = (float) Math.toDegrees(Math.atan2(directionY, directionX));
+        damage[i] = bulletDamage;
+        owner[i] = bulletOwner;
+        ownerCounts[bulletOwner]++;
+        hostileBucket[i] = NO_BULLET;
+        if (bulletOwner == OWNER_ENEMY) {
+            link(i, bucketAt(startX, startY));
+        }
+
+        if (count > highWaterMark) {
+            highWaterMark = count;
+        }
+        return i;
+    }
+
+    public void update(float delta) {
+        for (int i = 0; i < count; i++) {
+            previousX[i] = x[i];
+            previousY[i] = y[i];
+            x[i] += velocityX[i] * delta;
+            y[i] += velocityY[i] * delta;
+
+            if (hostileBucket[i] != NO_BULLET) {
+                int bucket = bucketAt(x[i], y[i]);
+                if (bucket != hostileBucket[i]) {
+                    unlink(i);
+                    link(i, bucket);
+                }
+            }
+        }
+
+
+        for (int i = count - 1; i >= 0; i--) {
+            if (Math.abs(x[i]) > OUT_OF_BOUNDS_DISTANCE || Math.abs(y[i]) > OUT_OF_BOUNDS_DISTANCE) {
+                remove(i);
+            }
+        }
+    }
+
+    public int capture(WorldSnapshot out, Rectangle view) {
+        float minX = view.x - BULLET_SIZE;
+        float minY = view.y - BULLET_SIZE;
+        float maxX = view.x + view.width + BULLET_SIZE;
+        float maxY = view.y + view.height + BULLET_SIZE;
+
+        int drawn = 0;
+        for (int i = 0; i < count; i++) {
+            if (x[i] < minX || x[i] > maxX || y[i] < minY || y[i] > maxY) continue;
+
+            out.addSprite(texture, previousX[i], previousY[i], x[i], y[i], BULLET_SIZE, BULLET_SIZE, rotation[i]);
+            drawn++;
+        }
+        return drawn;
+    }
+
+    public void remove(int index) {
+        ownerCounts[owner[index]]--;
+        if (hostileBucket[index] != NO_BULLET) {
+            unlink(index);
+        }
+
+        int last = --count;
+        if (index != last) {
+            int lastBucket = hostileBucket[last];
+            if (lastBucket != NO_BULLET) {
+                unlink(last);
+            }
+            x[index] = x[last];
+            y[index] = y[last];
+            previousX[index] = previousX[last];
+            previousY[index] = previousY[last];
+            velocityX[index] = velocityX[last];
+            velocityY[index] = velocityY[last];
+            rotation[index] = rotation[last];
+            damage[index] = damage[last];
+            owner[index] = owner[last];
+            hostileBucket[index] = NO_BULLET;
+            if (lastBucket != NO_BULLET) {
+                link(index, lastBucket);
+            }
+        }
+    }
+
+    private void link(int index, int bucket) {
+        int head = hostileHead[bucket];
+        hostileBucket[index] = bucket;
+        hostilePrevious[index] = NO_BULLET;
+        hostileNext[index] = head;
+        if (head != NO_BULLET) {
+            hostilePrevious[head] = index;
+        }
+        hostileHead[bucket] = index;
+    }
+
+    private void unlink(int index) {
+        int previous = hostilePrevious[index];
+        int next = hostileNext[index];
+        if (previous != NO_BULLET) {
+            hostileNext[previous] = next;
+        } else {
+            hostileHead[hostileBucket[index]] = next;
+        }
+        if (next != NO_BULLET) {
+            hostilePrevious[next] = previous;
+        }
+        hostileBucket[index] = NO_BULLET;
+    }
+
+    private static int bucketAt(float bulletX, float bulletY) {
+        return hostileBucket((int) Math.floor(bulletX / HOSTILE_CELL_SIZE), (int) Math.floor(bulletY / HOSTILE_CELL_SIZE));
+    }
+
+    public static int hostileBucket(int cellX, int cellY) {
+        return ((cellX * 73856093) ^ (cellY * 19349663)) & (HOSTILE_BUCKETS - 1);
+    }
+
+    public int firstHostile(int bucket) {
+        return hostileHead[bucket];
+    }
+
+    public int nextHostile(int index) {
+        return hostileNext[index];
+    }
+
+    public boolean overlaps(int index, Rectangle area) {
+        float left = x[index] - HALF_SIZE;
+        float bottom = y[index] - HALF_SIZE;
+        return left < area.x + area.width && left + BULLET_SIZE > area.x
+            && bottom < area.y + area.height && bottom + BULLET_SIZE > area.y;
+    }
+
+    public Rectangle getBounds(int index, Rectangle out) {
+        return out.set(x[index] - HALF_SIZE, y[index] - HALF_SIZE, BULLET_SIZE, BULLET_SIZE);
+    }
+
+    public void scaleDamage(int bulletOwner, float multiplier) {
+        for (int i = 0; i < count; i++) {
+            if (owner[i] == bulletOwner) {
+                damage[i] = (int) (damage[i] * multiplier);
+            }
+        }
+    }
+
+    public void clear(int bulletOwner) {
+        for (int i = count - 1; i >= 0; i--) {
+            if (owner[i] == bulletOwner) {
+                remove(i);
+            }
+        }
+    }
+
+    public void clear() {
+        count = 0;
+        Arrays.fill(hostileHead, NO_BULLET);
+        ownerCounts[OWNER_PLAYER] = 0;
+        ownerCounts[OWNER_ENEMY] = 0;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int size(int bulletOwner) {
+        return ownerCounts[bulletOwner];
+    }
+
+    public int getCapacity() {
+        return x.length;
+    }
+
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    public float getX(int index) {
+        return x[index];
+    }
+
+    public float getY(int index) {
+        return y[index];
+    }
+
+    public int getDamage(int index) {
+        return damage[index];
+    }
+
+    public int getOwner(int index) {
+        return owner[index];
+    }
+
+    public float getRotation(int index) {
+        return rotation[index];
+    }
+
+    private void grow(int capacity) {
+        x = copyOf(x, capacity);
+        y = copyOf(y, capacity);
+        previousX = copyOf(previousX, capacity);
+        previousY = copyOf(previousY, capacity);
+        velocityX = copyOf(velocityX, capacity);
+        velocityY = copyOf(velocityY, capacity);
+        rotation = copyOf(rotation, capacity);
+        damage = copyOf(damage, capacity);
+        owner = copyOf(owner, capacity);
+        hostileBucket = copyOf(hostileBucket, capacity);
+        hostileNext = copyOf(hostileNext, capacity);
+        hostilePrevious = copyOf(hostilePrevious, capacity);
+    }
+
+    private static float[] copyOf(float[] source, int capacity) {
+        float[] grown = new float[capacity];
+        System.arraycopy(source, 0, grown, 0, source.length);
+        return grown;
+    }
+
+    private static int[] copyOf(int[] source, int capacity) {
+        int[] grown = new int[capacity];
+        System.arraycopy(source, 0, grown, 0, source.length);
+        return grown;
+    }
+
+    public static TextureRegion getTexture() {
+        if (texture == null) {
+            loadTexture();
+        }
+        return texture;
+    }
+
+    private static void loadTexture() {
+        try {
+
+            texture = GameAssetManager.getGameAssetManager().loadGameplayRegion("Guns/BULLET.png");
+        } catch (Exception e) {
+
+            Texture defaultTexture = new Texture(1, 1, Pixmap.Format.RGBA8888);
+            texture = new TextureRegion(defaultTexture);
+            Gdx.app.error("BulletSystem", "Error loading texture: " + e.getMessage());
+        }
+    }
+
+    public static void disposeTexture() {
+        GameAssetManager.getGameAssetManager().disposeGameplayRegion(texture);
+        texture = null;
+    }
+}
@@ -3,10 +3,7 @@ package com.tilldawn.Models;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Vector2;
 import com.tilldawn.Models.CheatCode;
-import com.tilldawn.Models.Enemy.ElderEnemy;
-import com.tilldawn.Models.Enemy.EnemyManager;
 import com.tilldawn.Views.GameView;
 
 public class CheatManager {
@@ -84,24 +81,9 @@ public class CheatManager {
     }
 
         private boolean startBossFight() {
-        EnemyManager enemyManager = gameView.getEnemyManager();
-        if (enemyManager != null) {
-
-            enemyManager.clearAllEnemies();
-
-
-            Vector2 playerPos = gameView.getPlayerPosition();
-            float spawnX = playerPos.x + 200;
-            float spawnY = playerPos.y;
-
-            ElderEnemy elder = new ElderEnemy(spawnX, spawnY, gameView.getRemainingGameTime());
-            enemyManager.addCustomEnemy(elder);
-
-            showMessage("Cheat Activated: Boss Fight Started!");
-            return true;
-        }
-        showMessage("Cheat Failed: Cannot start boss fight!");
-        return false;
+        gameView.startBossFight();
+        showMessage("Cheat Activated: Boss Fight Started!");
+        return true;
     }
 
         private boolean toggleInfiniteShooting() {
@@ -1,10 +1,9 @@
 package com.tilldawn.Models.Enemy;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
-import com.tilldawn.Models.Bullet;
+import com.tilldawn.Models.BulletSystem;
+import com.tilldawn.Models.WorldSnapshot;
 
 public class ElderEnemy extends Enemy {
     private static final float DASH_INTERVAL = 5.0f;
@@ -56,18 +55,7 @@ public class ElderEnemy extends Enemy {
                 dashDurationTimer = 0;
             }
         } else {
-
-            float dx = playerPosition.x - x;
-            float dy = playerPosition.y - y;
-            float length = (float) Math.sqrt(dx * dx + dy * dy);
-
-            if (length > 0) {
-                dx /= length;
-                dy /= length;
-
-                x += dx * speed * delta;
-                y += dy * speed * delta;
-            }
+            chase(playerPosition, speed * delta);
 
 
             dashTimer += delta;
@@ -80,19 +68,23 @@ public class ElderEnemy extends Enemy {
 
         shootTimer += delta;
         if (shootTimer >= 1.0f) {
+            shotPending = true;
+            shootTimer = 0;
+        }
+    }
+
+    @Override
+    protected void fire(Vector2 playerPosition) {
 
-            for (int i = 0; i < 3; i++) {
-                float angle = MathUtils.random(360);
-                float radians = (float) Math.toRadians(angle);
-                float dx = (float) Math.cos(radians);
-                float dy = (float) Math.sin(radians);
+        for (int i = 0; i < 3; i++) {
+            float angle = random.nextInt(361);
+            float radians = (float) Math.toRadians(angle);
+            float dx = (float) Math.cos(radians);
+            float dy = (float) Math.sin(radians);
 
-                if (bullets != null) {
-                    Bullet bullet = new Bullet(x, y, dx, dy, type.getDamage());
-                    bullets.add(bullet);
-                }
+            if (bulletSystem != null) {
+                bulletSystem.spawn(x, y, dx, dy, type.getDamage(), BulletSystem.OWNER_ENEMY);
             }
-            shootTimer = 0;
         }
     }
 
@@ -115,7 +107,7 @@ public class ElderEnemy extends Enemy {
     }
 
     @Override
-    public void render(SpriteBatch batch) {
+    public void capture(WorldSnapshot out) {
 
         if (shieldSize > 0) {
 
@@ -123,7 +115,7 @@ public class ElderEnemy extends Enemy {
         }
 
 
-        super.render(batch);
+        super.capture(out);
     }
 
     @Override
@@ -148,6 +140,17 @@ public class ElderEnemy extends Enemy {
         return super.checkBulletCollision(bulletBounds);
     }
 
+    @Override
+    public void getCollisionArea(Rectangle out) {
+        super.getCollisionArea(out);
+
+        if (shieldSize > 0) {
+            float radius = shieldSize / 2;
+            out.merge(x - radius, y - radius);
+            out.merge(x + radius, y + radius);
+        }
+    }
+
     public float getShieldSize() {
         return shieldSize;
     }
@@ -1,16 +1,17 @@
 package com.tilldawn.Models.Enemy;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
-import com.tilldawn.Models.Bullet;
+import com.tilldawn.Models.BulletSystem;
 import com.tilldawn.Models.Item.ItemType;
+import com.tilldawn.Models.WorldSnapshot;
 
 public abstract class Enemy {
     protected EnemyType type;
     protected float x, y;
+    protected float previousX, previousY;
     protected float width, height;
     protected int health;
     protected boolean isAlive;
@@ -21,29 +22,59 @@ public abstract class Enemy {
     protected float speed;
 
 
-    protected Array<Bullet> bullets;
+    protected BulletSystem bulletSystem;
+    protected RandomXS128 random;
     protected float shootTimer;
+    protected boolean shotPending;
+
+
+    protected FlowField flowField;
+    protected NeighbourGrid neighbourGrid;
+    int neighbourSlot = -1;
+    int nearestBucket = -1;
+    int nearestOrder;
+    Enemy nearestNext;
+    Enemy nearestPrevious;
+    private final Vector2 steering = new Vector2();
+
+
+    private static final float SEPARATION_WEIGHT = 0.8f;
 
     public Enemy(EnemyType type, float x, float y, float width, float height) {
         this.type = type;
-        this.x = x;
-        this.y = y;
         this.width = width;
         this.height = height;
-        this.health = type.getMaxHealth();
-        this.isAlive = true;
         this.bounds = new Rectangle(x - width/2, y - height/2, width, height);
-        this.stateTime = 0;
         this.speed = 50;
 
-        if (type.canShoot()) {
-            this.bullets = new Array<>();
-            this.shootTimer = 0;
-        }
+        respawn(x, y);
+    }
+
+
+    public void respawn(float x, float y) {
+        this.x = x;
+        this.y = y;
+        this.previousX = x;
+        this.previousY = y;
+        this.health = type.getMaxHealth();
+        this.isAlive = true;
+        this.bounds.setPosition(x - width/2, y - height/2);
+        this.stateTime = 0;
+        this.shootTimer = 0;
+        this.shotPending = false;
+        this.neighbourSlot = -1;
     }
 
 
     public void update(float delta, Vector2 playerPosition) {
+        computeUpdate(delta, playerPosition);
+        commitUpdate(playerPosition);
+    }
+
+
+    public void computeUpdate(float delta, Vector2 playerPosition) {
+        previousX = x;
+        previousY = y;
         if (!isAlive) return;
 
         stateTime += delta;
@@ -53,10 +84,13 @@ public abstract class Enemy {
 
 
         bounds.setPosition(x - width/2, y - height/2);
+    }
 
 
-        if (type.canShoot()) {
-            updateBullets(delta);
+    public void commitUpdate(Vector2 playerPosition) {
+        if (shotPending) {
+            shotPending = false;
+            fire(playerPosition);
         }
     }
 
@@ -64,8 +98,42 @@ public abstract class Enemy {
     protected abstract void updateBehavior(float delta, Vector2 playerPosition);
 
 
+    protected void chase(Vector2 playerPosition, float step) {
+        if (flowField != null && flowField.sample(x, y, steering)) {
+            x += steering.x * step;
+            y += steering.y * step;
+        } else {
+            float dx = playerPosition.x - x;
+            float dy = playerPosition.y - y;
+            float length = (float) Math.sqrt(dx * dx + dy * dy);
+
+            if (length > 0) {
+                x += dx / length * step;
+                y += dy / length * step;
+            }
+        }
+
+
+        separate(step);
+    }
+
+
+    protected void separate(float step) {
+        if (neighbourGrid == null || !neighbourGrid.separation(neighbourSlot, steering)) return;
+
+        steering.limit(1);
+        x += steering.x * step * SEPARATION_WEIGHT;
+        y += steering.y * step * SEPARATION_WEIGHT;
+    }
+
+
+    protected void fire(Vector2 playerPosition) {
+        shoot(playerPosition);
+    }
+
+
     protected void shoot(Vector2 playerPosition) {
-        if (!type.canShoot() || bullets == null) return;
+        if (!type.canShoot() || bulletSystem == null) return;
 
 
         float dx = playerPosition.x - x;
@@ -77,43 +145,29 @@ public abstract class Enemy {
             dy /= length;
 
 
-            Bullet bullet = new Bullet(x, y, dx, dy, type.getDamage());
-            bullets.add(bullet);
+            bulletSystem.spawn(x, y, dx, dy, type.getDamage(), BulletSystem.OWNER_ENEMY);
         }
     }
 
 
-    protected void updateBullets(float delta) {
-        if (bullets == null) return;
-
-        for (int i = bullets.size - 1; i >= 0; i--) {
-            Bullet bullet = bullets.get(i);
-            bullet.update(delta);
-
-            if (bullet.isOutOfBounds()) {
-                bullets.removeIndex(i);
-            }
-        }
-    }
-
-
-    public void render(SpriteBatch batch) {
+    public void capture(WorldSnapshot out) {
         if (!isAlive) return;
 
 
         TextureRegion region = type.getTextureRegion();
         if (region != null) {
-            batch.draw(region,
-                x - width/2, y - height/2,
-                width, height);
+            out.addSprite(region, previousX, previousY, x, y, width, height, 0);
         }
+    }
 
 
-        if (bullets != null) {
-            for (Bullet bullet : bullets) {
-                bullet.render(batch);
-            }
-        }
+    public float getRenderX(float alpha) {
+        return previousX + (x - previousX) * alpha;
+    }
+
+
+    public float getRenderY(float alpha) {
+        return previousY + (y - previousY) * alpha;
     }
 
 
@@ -132,6 +186,11 @@ public abstract class Enemy {
     }
 
 
+    public void getCollisionArea(Rectangle out) {
+        out.set(bounds);
+    }
+
+
     public boolean checkPlayerCollision(Rectangle playerBounds) {
         return isAlive && bounds.overlaps(playerBounds);
     }
@@ -142,6 +201,21 @@ public abstract class Enemy {
     }
 
 
+    public Vector2 getPosition(Vector2 out) {
+        return out.set(x, y);
+    }
+
+
+    public float getX() {
+        return x;
+    }
+
+
+    public float getY() {
+        return y;
+    }
+
+
     public Rectangle getBounds() {
         return bounds;
     }
@@ -152,6 +226,11 @@ public abstract class Enemy {
     }
 
 
+    public boolean isObstacle() {
+        return false;
+    }
+
+
     public EnemyType getType() {
         return type;
     }
@@ -162,7 +241,22 @@ public abstract class Enemy {
     }
 
 
-    public Array<Bullet> getBullets() {
-        return bullets;
+    public void setBulletSystem(BulletSystem bulletSystem) {
+        this.bulletSystem = bulletSystem;
+    }
+
+
+    public void setRandom(RandomXS128 random) {
+        this.random = random;
+    }
+
+
+    public void setFlowField(FlowField flowField) {
+        this.flowField = flowField;
+    }
+
+
+    public void setNeighbourGrid(NeighbourGrid neighbourGrid) {
+        this.neighbourGrid = neighbourGrid;
     }
 }
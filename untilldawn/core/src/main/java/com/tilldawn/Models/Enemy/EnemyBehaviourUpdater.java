@@ -0,0 +1,107 @@
+package com.tilldawn.Models.Enemy;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class EnemyBehaviourUpdater {
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 512;
+    private static final int DEFAULT_LEAF_SIZE = 128;
+
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+    private final int leafSize;
+    private boolean parallel = true;
+
+
+    private final RootTask root = new RootTask();
+    private ChunkTask[] chunks = new ChunkTask[0];
+    private int chunkCount;
+    private Array<Enemy> enemies;
+    private float delta;
+    private Vector2 playerPosition;
+
+    public EnemyBehaviourUpdater() {
+        this(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD, DEFAULT_LEAF_SIZE);
+    }
+
+    public EnemyBehaviourUpdater(ForkJoinPool pool, int parallelThreshold, int leafSize) {
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+        this.leafSize = Math.max(1, leafSize);
+    }
+
+    public void compute(Array<Enemy> enemies, float delta, Vector2 playerPosition) {
+        if (!parallel || enemies.size < parallelThreshold || pool.getParallelism() < 2) {
+            computeRange(enemies, 0, enemies.size, delta, playerPosition);
+            return;
+        }
+
+        prepareChunks(enemies.size);
+        this.enemies = enemies;
+        this.delta = delta;
+        this.playerPosition = playerPosition;
+        root.reinitialize();
+        pool.invoke(root);
+    }
+
+    private void prepareChunks(int size) {
+        chunkCount = (size + leafSize - 1) / leafSize;
+        if (chunks.length >= chunkCount) return;
+
+        int first = chunks.length;
+        chunks = Arrays.copyOf(chunks, chunkCount);
+        for (int i = first; i < chunkCount; i++) {
+            chunks[i] = new ChunkTask(i * leafSize);
+        }
+    }
+
+    private static void computeRange(Array<Enemy> enemies, int from, int to, float delta, Vector2 playerPosition) {
+        for (int i = from; i < to; i++) {
+            enemies.get(i).computeUpdate(delta, playerPosition);
+        }
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    private final class RootTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected void compute() {
+            for (int i = 1; i < chunkCount; i++) {
+                chunks[i].reinitialize();
+                chunks[i].fork();
+            }
+
+            chunks[0].compute();
+            for (int i = chunkCount - 1; i > 0; i--) {
+                chunks[i].join();
+            }
+        }
+    }
+
+    private final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+
+        ChunkTask(int from) {
+            this.from = from;
+        }
+
+        @Override
+        protected void compute() {
+            computeRange(enemies, from, Math.min(from + leafSize, enemies.size), delta, playerPosition);
+        }
+    }
+}
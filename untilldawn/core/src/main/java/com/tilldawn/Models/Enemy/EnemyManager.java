@@ -1,23 +1,31 @@
 package com.tilldawn.Models.Enemy;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
-import com.tilldawn.Models.Bullet;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Pool;
+import com.tilldawn.Models.BulletSystem;
+import com.tilldawn.Models.GameWorld;
+import com.tilldawn.Models.HostileBulletCollider;
+import com.tilldawn.Models.WorldSnapshot;
 import com.tilldawn.Models.Item.Item;
 import com.tilldawn.Models.Item.ItemType;
-import com.tilldawn.Views.GameView;
 
 public class EnemyManager {
     private Array<Enemy> enemies;
     private Array<Item> items;
+    private final RandomXS128 random;
+    private final BulletSystem bulletSystem;
+    private final HostileBulletCollider hostileBulletCollider;
     private float gameTime;
     private float gameMaxTime;
     private float tentacleSpawnTimer;
     private float eyebatSpawnTimer;
     private boolean bossSpawned;
+    private boolean spawningEnabled = true;
 
 
     private float worldWidth, worldHeight;
@@ -26,9 +34,64 @@ public class EnemyManager {
     private float baseSpawnInterval = 3.0f;
     private float minSpawnInterval = 0.5f;
 
-    public EnemyManager(float worldWidth, float worldHeight, float gameMaxTime) {
+
+    private static final float BROADPHASE_CELL_SIZE = 128;
+    private final SpatialHashGrid broadphase = new SpatialHashGrid(BROADPHASE_CELL_SIZE);
+    private final IntArray candidates = new IntArray();
+    private final Rectangle collisionArea = new Rectangle();
+    private final Rectangle bulletBounds = new Rectangle();
+    private final Array<Item> collectedItems = new Array<>();
+    private boolean broadphaseValid;
+
+    private final IntArray visibleEnemies = new IntArray();
+
+
+    private static final float NEAREST_CELL_SIZE = 200;
+    private final NearestEnemyIndex nearestIndex = new NearestEnemyIndex(NEAREST_CELL_SIZE);
+
+    private final EnemyBehaviourUpdater behaviourUpdater = new EnemyBehaviourUpdater();
+
+
+    private static final float FLOW_CELL_SIZE = 32;
+    private static final float FLOW_CLEARANCE = 16;
+    private final FlowField flowField;
+
+
+    private static final float SEPARATION_RADIUS = 40;
+    private static final int MAX_SEPARATION_NEIGHBOURS = 8;
+    private final NeighbourGrid neighbourGrid;
+
+
+    private static final ItemType[] ITEM_TYPES = ItemType.values();
+    private static final int INITIAL_ENEMY_POOL_SIZE = 64;
+    private static final int INITIAL_ITEM_POOL_SIZE = 128;
+    private final Vector2 spawnPosition = new Vector2();
+    private final Array<Enemy> releasedEnemies = new Array<>();
+    private final Pool<TentacleMonsterEnemy> tentaclePool = new Pool<TentacleMonsterEnemy>() {
+        @Override
+        protected TentacleMonsterEnemy newObject() {
+            return new TentacleMonsterEnemy(0, 0);
+        }
+    };
+    private final Pool<EyebatEnemy> eyebatPool = new Pool<EyebatEnemy>() {
+        @Override
+        protected EyebatEnemy newObject() {
+            return new EyebatEnemy(0, 0);
+        }
+    };
+    private final Pool<Item> itemPool = new Pool<Item>() {
+        @Override
+        protected Item newObject() {
+            return new Item(ItemType.EXPERIENCE, 0, 0);
+        }
+    };
+
+    public EnemyManager(float worldWidth, float worldHeight, float gameMaxTime, RandomXS128 random) {
         this.enemies = new Array<>();
         this.items = new Array<>();
+        this.random = random;
+        this.bulletSystem = new BulletSystem();
+        this.hostileBulletCollider = new HostileBulletCollider();
         this.gameTime = 0;
         this.gameMaxTime = gameMaxTime;
         this.tentacleSpawnTimer = 0;
@@ -36,10 +99,11 @@ public class EnemyManager {
         this.bossSpawned = false;
         this.worldWidth = worldWidth;
         this.worldHeight = worldHeight;
-
-
-        EnemyType.loadTextures();
-        ItemType.loadTextures();
+        this.flowField = new FlowField(worldWidth, worldHeight, FLOW_CELL_SIZE, FLOW_CLEARANCE);
+        this.neighbourGrid = new NeighbourGrid(worldWidth, worldHeight, SEPARATION_RADIUS, MAX_SEPARATION_NEIGHBOURS);
+        tentaclePool.fill(INITIAL_ENEMY_POOL_SIZE);
+        eyebatPool.fill(INITIAL_ENEMY_POOL_SIZE);
+        itemPool.fill(INITIAL_ITEM_POOL_SIZE);
 
 
         spawnInitialTrees(20);
@@ -47,41 +111,62 @@ public class EnemyManager {
 
     private void spawnInitialTrees(int count) {
         for (int i = 0; i < count; i++) {
-            float x = MathUtils.random(100, worldWidth - 100);
-            float y = MathUtils.random(100, worldHeight - 100);
+            float x = randomRange(100, worldWidth - 100);
+            float y = randomRange(100, worldHeight - 100);
 
             TreeEnemy tree = new TreeEnemy(x, y);
-            enemies.add(tree);
+            addEnemy(tree);
         }
     }
 
     public void update(float delta, Vector2 playerPosition) {
 
         gameTime += delta;
+        broadphaseValid = false;
+
+
+        for (int i = 0; i < releasedEnemies.size; i++) {
+            release(releasedEnemies.get(i));
+        }
+        releasedEnemies.clear();
+
+
+        bulletSystem.update(delta);
+
+
+        flowField.update(enemies, playerPosition);
+        neighbourGrid.rebuild(enemies);
+        behaviourUpdater.compute(enemies, delta, playerPosition);
 
 
         for (int i = enemies.size - 1; i >= 0; i--) {
             Enemy enemy = enemies.get(i);
-            enemy.update(delta, playerPosition);
+            enemy.commitUpdate(playerPosition);
+            nearestIndex.move(enemy);
 
 
             if (!enemy.isAlive()) {
 
-                Item xpItem = new Item(ItemType.EXPERIENCE, enemy.getPosition().x, enemy.getPosition().y);
+                Item xpItem = itemPool.obtain().set(ItemType.EXPERIENCE, enemy.getX(), enemy.getY());
                 items.add(xpItem);
 
 
-                if (Math.random() < 0.3) {
+                if (random.nextFloat() < 0.3f) {
                     ItemType randomItemType = getRandomItemType();
                     if (randomItemType != null && randomItemType != ItemType.EXPERIENCE) {
-                        Item item = new Item(randomItemType,
-                            enemy.getPosition().x + (float)(Math.random() * 20 - 10),
-                            enemy.getPosition().y + (float)(Math.random() * 20 - 10));
+                        Item item = itemPool.obtain().set(randomItemType,
+                            enemy.getX() + randomRange(-10, 10),
+                            enemy.getY() + randomRange(-10, 10));
                         items.add(item);
                     }
                 }
 
+                if (enemy.isObstacle()) {
+                    flowField.invalidateObstacles();
+                }
+                nearestIndex.remove(enemy);
                 enemies.removeIndex(i);
+                releasedEnemies.add(enemy);
             }
         }
 
@@ -92,11 +177,14 @@ public class EnemyManager {
 
             if (item.isExpired()) {
                 items.removeIndex(i);
+                itemPool.free(item);
             }
         }
 
 
-        updateEnemySpawning(delta, playerPosition);
+        if (spawningEnabled) {
+            updateEnemySpawning(delta, playerPosition);
+        }
     }
 
     private void updateEnemySpawning(float delta, Vector2 playerPosition) {
@@ -127,39 +215,61 @@ public class EnemyManager {
     }
 
     private ItemType getRandomItemType() {
-        ItemType[] types = ItemType.values();
-        int index = (int)(Math.random() * types.length);
-        return types[index];
+        int index = random.nextInt(ITEM_TYPES.length);
+        return ITEM_TYPES[index];
     }
 
     private void spawnTentacleMonster(Vector2 playerPosition) {
 
         Vector2 spawnPos = getSpawnPosition(playerPosition, 300, 500);
-        TentacleMonsterEnemy enemy = new TentacleMonsterEnemy(spawnPos.x, spawnPos.y);
-        enemies.add(enemy);
+        TentacleMonsterEnemy enemy = tentaclePool.obtain();
+        enemy.respawn(spawnPos.x, spawnPos.y);
+        addEnemy(enemy);
     }
 
     private void spawnEyebat(Vector2 playerPosition) {
 
         Vector2 spawnPos = getSpawnPosition(playerPosition, 400, 600);
-        EyebatEnemy enemy = new EyebatEnemy(spawnPos.x, spawnPos.y);
-        enemies.add(enemy);
+        EyebatEnemy enemy = eyebatPool.obtain();
+        enemy.respawn(spawnPos.x, spawnPos.y);
+        addEnemy(enemy);
     }
 
     private void spawnElder(Vector2 playerPosition) {
 
         Vector2 spawnPos = getSpawnPosition(playerPosition, 500, 700);
         ElderEnemy enemy = new ElderEnemy(spawnPos.x, spawnPos.y, gameMaxTime);
+        addEnemy(enemy);
+    }
+
+    private void release(Enemy enemy) {
+        if (enemy.getClass() == TentacleMonsterEnemy.class) {
+            tentaclePool.free((TentacleMonsterEnemy) enemy);
+        } else if (enemy.getClass() == EyebatEnemy.class) {
+            eyebatPool.free((EyebatEnemy) enemy);
+        }
+    }
+
+    private void addEnemy(Enemy enemy) {
+        enemy.setBulletSystem(bulletSystem);
+        enemy.setRandom(random);
+        enemy.setFlowField(flowField);
+        enemy.setNeighbourGrid(neighbourGrid);
         enemies.add(enemy);
+        if (enemy.isObstacle()) {
+            flowField.invalidateObstacles();
+        }
+        nearestIndex.insert(enemy);
+        broadphaseValid = false;
     }
 
     private Vector2 getSpawnPosition(Vector2 playerPosition, float minDistance, float maxDistance) {
 
-        float angle = MathUtils.random(360);
+        float angle = random.nextInt(361);
         float radians = (float) Math.toRadians(angle);
 
 
-        float distance = MathUtils.random(minDistance, maxDistance);
+        float distance = randomRange(minDistance, maxDistance);
 
 
         float x = playerPosition.x + distance * (float) Math.cos(radians);
@@ -169,51 +279,106 @@ public class EnemyManager {
         x = MathUtils.clamp(x, 50, worldWidth - 50);
         y = MathUtils.clamp(y, 50, worldHeight - 50);
 
-        return new Vector2(x, y);
+        return spawnPosition.set(x, y);
     }
 
-    public void render(SpriteBatch batch) {
+    private float randomRange(float start, float end) {
+        return start + random.nextFloat() * (end - start);
+    }
 
+    public void capture(WorldSnapshot out, Rectangle view) {
         for (Item item : items) {
-            item.render(batch);
+            if (item.getBounds().overlaps(view)) {
+                item.capture(out);
+            } else {
+                out.addCulled(1);
+            }
         }
 
 
-        for (Enemy enemy : enemies) {
-            enemy.render(batch);
+        int enemiesDrawn = 0;
+        if (broadphaseValid) {
+            broadphase.query(view, visibleEnemies);
+            visibleEnemies.sort();
+            for (int i = 0; i < visibleEnemies.size; i++) {
+                Enemy enemy = enemies.get(visibleEnemies.get(i));
+                if (enemy.isAlive() && enemy.getBounds().overlaps(view)) {
+                    enemy.capture(out);
+                    enemiesDrawn++;
+                }
+            }
+        } else {
+            for (Enemy enemy : enemies) {
+                if (enemy.isAlive() && enemy.getBounds().overlaps(view)) {
+                    enemy.capture(out);
+                    enemiesDrawn++;
+                }
+            }
         }
+        out.addCulled(enemies.size - enemiesDrawn);
+
+
+        int bulletsDrawn = bulletSystem.capture(out, view);
+        out.addCulled(bulletSystem.size() - bulletsDrawn);
     }
 
-    public void checkBulletCollisions(Array<Bullet> bullets, GameView gameView) {
-        if (bullets == null) return;
+    public void checkBulletCollisions(GameWorld world) {
+        rebuildBroadphase();
 
-        for (int i = bullets.size - 1; i >= 0; i--) {
-            Bullet bullet = bullets.get(i);
-            Rectangle bulletBounds = bullet.getBounds();
+        for (int i = bulletSystem.size() - 1; i >= 0; i--) {
+            if (bulletSystem.getOwner(i) != BulletSystem.OWNER_PLAYER) continue;
 
-            for (Enemy enemy : enemies) {
+            bulletSystem.getBounds(i, bulletBounds);
+
+
+            broadphase.query(bulletBounds, candidates);
+            candidates.sort();
+
+            for (int c = 0; c < candidates.size; c++) {
+                Enemy enemy = enemies.get(candidates.get(c));
                 if (enemy.isAlive() && enemy.checkBulletCollision(bulletBounds)) {
 
-                    enemy.takeDamage(bullet.getDamage());
+                    enemy.takeDamage(bulletSystem.getDamage(i));
 
 
                     if (!enemy.isAlive()) {
-                        gameView.addKill();
+                        world.addKill();
 
 
                     }
 
 
-                    bullets.removeIndex(i);
+                    bulletSystem.remove(i);
                     break;
                 }
             }
         }
     }
 
+    private void rebuildBroadphase() {
+        broadphase.clear();
+
+        for (int i = 0; i < enemies.size; i++) {
+            Enemy enemy = enemies.get(i);
+            if (!enemy.isAlive()) continue;
+
+            enemy.getCollisionArea(collisionArea);
+            broadphase.insert(i, collisionArea);
+        }
+        broadphaseValid = true;
+    }
+
+    public Enemy findNearestEnemy(Vector2 position, float range) {
+        return nearestIndex.findNearest(position.x, position.y, range);
+    }
+
+    public int checkEnemyBulletCollisions(Rectangle playerBounds) {
+        return hostileBulletCollider.resolve(bulletSystem, playerBounds);
+    }
+
     public boolean checkPlayerCollisions(Rectangle playerBounds) {
-        for (Enemy enemy : enemies) {
-            if (enemy.checkPlayerCollision(playerBounds)) {
+        for (int i = 0; i < enemies.size; i++) {
+            if (enemies.get(i).checkPlayerCollision(playerBounds)) {
                 return true;
             }
         }
@@ -221,7 +386,8 @@ public class EnemyManager {
     }
 
     public Array<Item> checkItemCollisions(Rectangle playerBounds) {
-        Array<Item> collectedItems = new Array<>();
+        itemPool.freeAll(collectedItems);
+        collectedItems.clear();
 
         for (int i = items.size - 1; i >= 0; i--) {
             Item item = items.get(i);
@@ -244,14 +410,33 @@ public class EnemyManager {
 
     public void clearAllEnemies() {
         enemies.clear();
+        flowField.invalidateObstacles();
+        bulletSystem.clear(BulletSystem.OWNER_ENEMY);
+        nearestIndex.clear();
+        broadphaseValid = false;
     }
 
         public void addCustomEnemy(Enemy enemy) {
-        enemies.add(enemy);
+        addEnemy(enemy);
+    }
+
+    public void setParallelUpdate(boolean parallel) {
+        behaviourUpdater.setParallel(parallel);
+    }
+
+    public void setSpawningEnabled(boolean spawningEnabled) {
+        this.spawningEnabled = spawningEnabled;
+    }
+
+    public BulletSystem getBulletSystem() {
+        return bulletSystem;
+    }
+
+    public HostileBulletCollider getHostileBulletCollider() {
+        return hostileBulletCollider;
     }
 
-    public void dispose() {
-        EnemyType.disposeTextures();
-        ItemType.disposeTextures();
+    public RandomXS128 getRandom() {
+        return random;
     }
 }
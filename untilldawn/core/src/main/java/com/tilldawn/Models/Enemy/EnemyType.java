@@ -1,7 +1,7 @@
 package com.tilldawn.Models.Enemy;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.tilldawn.Models.GameAssetManager;
 
 public enum EnemyType {
     TREE("Tree", 0, 0, "enemies/TREE.png", false),
@@ -56,8 +56,7 @@ public enum EnemyType {
 
         for (EnemyType type : values()) {
             try {
-                Texture texture = new Texture(type.getTexturePath());
-                type.setTextureRegion(new TextureRegion(texture));
+                type.setTextureRegion(GameAssetManager.getGameAssetManager().loadGameplayRegion(type.getTexturePath()));
             } catch (Exception e) {
                 System.err.println("Failed to load texture for enemy: " + type.getName());
             }
@@ -67,9 +66,7 @@ public enum EnemyType {
     public static void disposeTextures() {
 
         for (EnemyType type : values()) {
-            if (type.textureRegion != null && type.textureRegion.getTexture() != null) {
-                type.textureRegion.getTexture().dispose();
-            }
+            GameAssetManager.getGameAssetManager().disposeGameplayRegion(type.textureRegion);
         }
     }
 }
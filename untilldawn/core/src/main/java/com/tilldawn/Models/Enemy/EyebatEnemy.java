@@ -19,18 +19,13 @@ public class EyebatEnemy extends Enemy {
 
 
         if (distanceSquared > 200 * 200) {
-            float length = (float) Math.sqrt(distanceSquared);
-            dx /= length;
-            dy /= length;
-
-            x += dx * speed * delta;
-            y += dy * speed * delta;
+            chase(playerPosition, speed * delta);
         }
 
 
         shootTimer += delta;
         if (shootTimer >= SHOOT_INTERVAL) {
-            shoot(playerPosition);
+            shotPending = true;
             shootTimer = 0;
         }
     }
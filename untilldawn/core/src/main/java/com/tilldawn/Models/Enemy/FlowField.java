@@ -0,0 +1,222 @@
+package com.tilldawn.Models.Enemy;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Arrays;
+
+public class FlowField {
+    private static final int UNREACHED = -1;
+    private static final int[] NEIGHBOUR_X = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] NEIGHBOUR_Y = {0, 0, 1, -1, 1, -1, 1, -1};
+    private static final float DIAGONAL = (float) (1 / Math.sqrt(2));
+
+    private final float cellSize;
+    private final float clearance;
+    private final int columns;
+    private final int rows;
+
+    private final boolean[] blocked;
+    private final int[] distance;
+    private final int[] queue;
+    private final float[] directionX;
+    private final float[] directionY;
+    private final boolean[] lineToGoal;
+
+    private boolean obstaclesDirty = true;
+    private int blockedCells;
+    private int goalCell = -1;
+    private int rebuildCount;
+
+    public FlowField(float worldWidth, float worldHeight, float cellSize, float clearance) {
+        this.cellSize = cellSize;
+        this.clearance = clearance;
+        this.columns = (int) Math.ceil(worldWidth / cellSize);
+        this.rows = (int) Math.ceil(worldHeight / cellSize);
+
+        int cells = columns * rows;
+        this.blocked = new boolean[cells];
+        this.distance = new int[cells];
+        this.queue = new int[cells];
+        this.directionX = new float[cells];
+        this.directionY = new float[cells];
+        this.lineToGoal = new boolean[cells];
+        Arrays.fill(distance, UNREACHED);
+    }
+
+    public void invalidateObstacles() {
+        obstaclesDirty = true;
+    }
+
+    public void update(Array<Enemy> enemies, Vector2 playerPosition) {
+        boolean obstaclesChanged = obstaclesDirty;
+        if (obstaclesDirty) {
+            rebuildObstacles(enemies);
+            obstaclesDirty = false;
+        }
+
+        int cell = cellAt(playerPosition.x, playerPosition.y);
+        if (cell == goalCell && !obstaclesChanged) return;
+
+        goalCell = cell;
+        rebuild();
+    }
+
+    private void rebuildObstacles(Array<Enemy> enemies) {
+        Arrays.fill(blocked, false);
+        blockedCells = 0;
+
+        for (int i = 0; i < enemies.size; i++) {
+            Enemy enemy = enemies.get(i);
+            if (!enemy.isAlive() || !enemy.isObstacle()) continue;
+
+            float left = enemy.getBounds().x - clearance;
+            float bottom = enemy.getBounds().y - clearance;
+            float right = enemy.getBounds().x + enemy.getBounds().width + clearance;
+            float top = enemy.getBounds().y + enemy.getBounds().height + clearance;
+
+            int minColumn = Math.max(0, (int) Math.floor(left / cellSize));
+            int minRow = Math.max(0, (int) Math.floor(bottom / cellSize));
+            int maxColumn = Math.min(columns - 1, (int) Math.floor(right / cellSize));
+            int maxRow = Math.min(rows - 1, (int) Math.floor(top / cellSize));
+
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int column = minColumn; column <= maxColumn; column++) {
+                    int cell = row * columns + column;
+                    if (!blocked[cell]) {
+                        blocked[cell] = true;
+                        blockedCells++;
+                    }
+                }
+            }
+        }
+    }
+
+    private void rebuild() {
+        rebuildCount++;
+        Arrays.fill(distance, UNREACHED);
+        Arrays.fill(directionX, 0);
+        Arrays.fill(directionY, 0);
+        Arrays.fill(lineToGoal, false);
+        if (goalCell < 0) return;
+
+
+        int head = 0;
+        int tail = 0;
+        distance[goalCell] = 0;
+        queue[tail++] = goalCell;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            int column = cell % columns;
+            int row = cell / columns;
+
+            for (int n = 0; n < NEIGHBOUR_X.length; n++) {
+                int next = neighbour(column, row, n);
+                if (next < 0 || distance[next] != UNREACHED) continue;
+
+                distance[next] = distance[cell] + 1;
+                queue[tail++] = next;
+            }
+        }
+
+
+        for (int i = 0; i < tail; i++) {
+            int cell = queue[i];
+            if (cell == goalCell) continue;
+
+            int column = cell % columns;
+            int row = cell / columns;
+            int best = -1;
+            int bestDistance = distance[cell];
+            for (int n = 0; n < NEIGHBOUR_X.length; n++) {
+                int next = neighbour(column, row, n);
+                if (next >= 0 && distance[next] < bestDistance) {
+                    best = n;
+                    bestDistance = distance[next];
+                }
+            }
+
+            if (best >= 0) {
+                float scale = best < 4 ? 1 : DIAGONAL;
+                directionX[cell] = NEIGHBOUR_X[best] * scale;
+                directionY[cell] = NEIGHBOUR_Y[best] * scale;
+            }
+
+            if (blockedCells > 0 && distance[cell] > 1) {
+                lineToGoal[cell] = traceLine(cell);
+            }
+        }
+    }
+
+    private int neighbour(int column, int row, int n) {
+        int nextColumn = column + NEIGHBOUR_X[n];
+        int nextRow = row + NEIGHBOUR_Y[n];
+        if (nextColumn < 0 || nextColumn >= columns || nextRow < 0 || nextRow >= rows) return -1;
+
+        int next = nextRow * columns + nextColumn;
+        if (blocked[next]) return -1;
+
+
+        if (n >= 4 && (blocked[row * columns + nextColumn] || blocked[nextRow * columns + column])) return -1;
+        return next;
+    }
+
+    private int cellAt(float x, float y) {
+        if (x < 0 || y < 0) return -1;
+
+        int column = (int) (x / cellSize);
+        int row = (int) (y / cellSize);
+        if (column >= columns || row >= rows) return -1;
+        return row * columns + column;
+    }
+
+    public boolean sample(float x, float y, Vector2 out) {
+        int cell = cellAt(x, y);
+        if (cell < 0 || distance[cell] <= 1 || hasClearLine(cell)) return false;
+
+        out.set(directionX[cell], directionY[cell]);
+        return true;
+    }
+
+    private boolean hasClearLine(int cell) {
+        return blockedCells == 0 || lineToGoal[cell];
+    }
+
+    private boolean traceLine(int cell) {
+        int column = cell % columns;
+        int row = cell / columns;
+        int goalColumn = goalCell % columns;
+        int goalRow = goalCell / columns;
+
+        int stepsX = Math.abs(goalColumn - column);
+        int stepsY = Math.abs(goalRow - row);
+        int stepX = goalColumn > column ? 1 : -1;
+        int stepY = goalRow > row ? 1 : -1;
+
+
+        for (int ix = 0, iy = 0; ix < stepsX || iy < stepsY; ) {
+            int decision = (1 + 2 * ix) * stepsY - (1 + 2 * iy) * stepsX;
+            if (decision == 0) {
+                if (blocked[row * columns + column + stepX] || blocked[(row + stepY) * columns + column]) return false;
+                column += stepX;
+                row += stepY;
+                ix++;
+                iy++;
+            } else if (decision < 0) {
+                column += stepX;
+                ix++;
+            } else {
+                row += stepY;
+                iy++;
+            }
+
+            if (blocked[row * columns + column]) return false;
+        }
+        return true;
+    }
+
+    public int getRebuildCount() {
+        return rebuildCount;
+    }
+}
@@ -0,0 +1,129 @@
+package com.tilldawn.Models.Enemy;
+
+import java.util.Arrays;
+
+public class NearestEnemyIndex {
+    private static final int BUCKETS = 1024;
+    private static final int NOT_INDEXED = -1;
+
+    private final float cellSize;
+    private final Enemy[] heads = new Enemy[BUCKETS];
+    private int nextOrder;
+
+    public NearestEnemyIndex(float cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    public void insert(Enemy enemy) {
+        enemy.nearestOrder = nextOrder++;
+        link(enemy, bucketAt(enemy.getX(), enemy.getY()));
+    }
+
+    public void move(Enemy enemy) {
+        if (enemy.nearestBucket == NOT_INDEXED) return;
+
+        int bucket = bucketAt(enemy.getX(), enemy.getY());
+        if (bucket != enemy.nearestBucket) {
+            unlink(enemy);
+            link(enemy, bucket);
+        }
+    }
+
+    public void remove(Enemy enemy) {
+        if (enemy.nearestBucket != NOT_INDEXED) {
+            unlink(enemy);
+        }
+    }
+
+    public void clear() {
+        for (int b = 0; b < BUCKETS; b++) {
+            for (Enemy enemy = heads[b]; enemy != null; ) {
+                Enemy next = enemy.nearestNext;
+                enemy.nearestBucket = NOT_INDEXED;
+                enemy.nearestNext = null;
+                enemy.nearestPrevious = null;
+                enemy = next;
+            }
+        }
+        Arrays.fill(heads, null);
+    }
+
+    private void link(Enemy enemy, int bucket) {
+        Enemy head = heads[bucket];
+        enemy.nearestBucket = bucket;
+        enemy.nearestPrevious = null;
+        enemy.nearestNext = head;
+        if (head != null) {
+            head.nearestPrevious = enemy;
+        }
+        heads[bucket] = enemy;
+    }
+
+    private void unlink(Enemy enemy) {
+        if (enemy.nearestPrevious != null) {
+            enemy.nearestPrevious.nearestNext = enemy.nearestNext;
+        } else {
+            heads[enemy.nearestBucket] = enemy.nearestNext;
+        }
+        if (enemy.nearestNext != null) {
+            enemy.nearestNext.nearestPrevious = enemy.nearestPrevious;
+        }
+        enemy.nearestBucket = NOT_INDEXED;
+        enemy.nearestNext = null;
+        enemy.nearestPrevious = null;
+    }
+
+    private int bucketAt(float x, float y) {
+        return bucket(cellCoord(x), cellCoord(y));
+    }
+
+    private int cellCoord(float value) {
+        return (int) Math.floor(value / cellSize);
+    }
+
+    private static int bucket(int cx, int cy) {
+        return ((cx * 73856093) ^ (cy * 19349663)) & (BUCKETS - 1);
+    }
+
+    public Enemy findNearest(float x, float y, float range) {
+        int centerX = cellCoord(x);
+        int centerY = cellCoord(y);
+        int maxRing = (int) Math.ceil(range / cellSize) + 1;
+        float rangeSquared = range * range;
+
+        Enemy nearest = null;
+        float minDistanceSquared = Float.MAX_VALUE;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int cx = centerX - ring; cx <= centerX + ring; cx++) {
+                boolean edgeColumn = cx == centerX - ring || cx == centerX + ring;
+                int step = edgeColumn ? 1 : ring * 2;
+
+                for (int cy = centerY - ring; cy <= centerY + ring; cy += step) {
+                    for (Enemy enemy = heads[bucket(cx, cy)]; enemy != null; enemy = enemy.nearestNext) {
+                        if (!enemy.isAlive()) continue;
+
+                        float dx = enemy.getX() - x;
+                        float dy = enemy.getY() - y;
+                        float distanceSquared = dx * dx + dy * dy;
+
+                        if (distanceSquared < rangeSquared
+                            && (distanceSquared < minDistanceSquared
+                            || (distanceSquared == minDistanceSquared && enemy.nearestOrder < nearest.nearestOrder))) {
+                            minDistanceSquared = distanceSquared;
+                            nearest = enemy;
+                        }
+                    }
+                }
+            }
+
+
+            float clearance = ring * cellSize;
+            if (nearest != null && minDistanceSquared < clearance * clearance) {
+                break;
+            }
+        }
+
+        return nearest;
+    }
+}
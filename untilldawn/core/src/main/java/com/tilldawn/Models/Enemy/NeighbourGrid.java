@@ -0,0 +1,132 @@
+package com.tilldawn.Models.Enemy;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Arrays;
+
+public class NeighbourGrid {
+    private static final int[] CELL_ORDER_X = {0, -1, 1, 0, 0, -1, 1, -1, 1};
+    private static final int[] CELL_ORDER_Y = {0, 0, 0, -1, 1, -1, -1, 1, 1};
+    private static final int EXAMINED_PER_NEIGHBOUR = 4;
+
+    private final float radius;
+    private final int maxNeighbours;
+    private final int maxExamined;
+    private final int columns;
+    private final int rows;
+
+    private final int[] cellStart;
+    private final int[] cellCursor;
+    private int[] entries;
+    private int[] cellOf;
+    private float[] positionX;
+    private float[] positionY;
+    private int count;
+
+    public NeighbourGrid(float worldWidth, float worldHeight, float radius, int maxNeighbours) {
+        this.radius = radius;
+        this.maxNeighbours = maxNeighbours;
+        this.maxExamined = maxNeighbours * EXAMINED_PER_NEIGHBOUR;
+        this.columns = (int) Math.ceil(worldWidth / radius);
+        this.rows = (int) Math.ceil(worldHeight / radius);
+
+        this.cellStart = new int[columns * rows + 1];
+        this.cellCursor = new int[columns * rows];
+        this.entries = new int[64];
+        this.cellOf = new int[64];
+        this.positionX = new float[64];
+        this.positionY = new float[64];
+    }
+
+    public void rebuild(Array<Enemy> enemies) {
+        if (enemies.size > entries.length) {
+            int capacity = Math.max(enemies.size, entries.length * 2);
+            entries = new int[capacity];
+            cellOf = new int[capacity];
+            positionX = new float[capacity];
+            positionY = new float[capacity];
+        }
+
+        count = 0;
+        Arrays.fill(cellStart, 0);
+        for (int i = 0; i < enemies.size; i++) {
+            Enemy enemy = enemies.get(i);
+            if (!enemy.isAlive() || enemy.isObstacle()) {
+                enemy.neighbourSlot = -1;
+                continue;
+            }
+
+            int slot = count++;
+            enemy.neighbourSlot = slot;
+            positionX[slot] = enemy.getX();
+            positionY[slot] = enemy.getY();
+            cellOf[slot] = column(enemy.getX()) + row(enemy.getY()) * columns;
+            cellStart[cellOf[slot] + 1]++;
+        }
+
+
+        for (int c = 0; c < columns * rows; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        System.arraycopy(cellStart, 0, cellCursor, 0, cellCursor.length);
+        for (int slot = 0; slot < count; slot++) {
+            entries[cellCursor[cellOf[slot]]++] = slot;
+        }
+    }
+
+    public boolean separation(int slot, Vector2 out) {
+        out.setZero();
+        if (slot < 0 || slot >= count) return false;
+
+        float x = positionX[slot];
+        float y = positionY[slot];
+        int column = column(x);
+        int row = row(y);
+        float radiusSquared = radius * radius;
+        int found = 0;
+        int examined = 0;
+
+        for (int c = 0; c < CELL_ORDER_X.length && found < maxNeighbours && examined < maxExamined; c++) {
+            int cellColumn = column + CELL_ORDER_X[c];
+            int cellRow = row + CELL_ORDER_Y[c];
+            if (cellColumn < 0 || cellColumn >= columns || cellRow < 0 || cellRow >= rows) continue;
+
+            int cell = cellColumn + cellRow * columns;
+            for (int k = cellStart[cell]; k < cellStart[cell + 1] && found < maxNeighbours && examined < maxExamined; k++) {
+                int other = entries[k];
+                if (other == slot) continue;
+
+                examined++;
+
+                float dx = x - positionX[other];
+                float dy = y - positionY[other];
+                float distanceSquared = dx * dx + dy * dy;
+                if (distanceSquared >= radiusSquared) continue;
+
+                if (distanceSquared == 0) {
+                    out.x += other < slot ? 1 : -1;
+                } else {
+                    float distance = (float) Math.sqrt(distanceSquared);
+                    float weight = (1 - distance / radius) / distance;
+                    out.x += dx * weight;
+                    out.y += dy * weight;
+                }
+                found++;
+            }
+        }
+        return found > 0;
+    }
+
+    private int column(float x) {
+        return Math.min(columns - 1, Math.max(0, (int) Math.floor(x / radius)));
+    }
+
+    private int row(float y) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor(y / radius)));
+    }
+
+    public int size() {
+        return count;
+    }
+}
@@ -0,0 +1,117 @@
+package com.tilldawn.Models.Enemy;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongMap;
+
+import java.util.Arrays;
+
+public class SpatialHashGrid {
+    private final float cellSize;
+    private final LongMap<IntArray> cells;
+    private final Array<IntArray> freeBuckets;
+
+
+    private int[] queryStamps;
+    private int queryStamp;
+
+    public SpatialHashGrid(float cellSize) {
+        this.cellSize = cellSize;
+        this.cells = new LongMap<>();
+        this.freeBuckets = new Array<>();
+        this.queryStamps = new int[64];
+        this.queryStamp = 0;
+    }
+
+    public void clear() {
+        LongMap.Entries<IntArray> entries = cells.entries();
+        while (entries.hasNext()) {
+            LongMap.Entry<IntArray> entry = entries.next();
+
+            if (entry.value.size == 0) {
+                freeBuckets.add(entry.value);
+                entries.remove();
+            } else {
+                entry.value.clear();
+            }
+        }
+    }
+
+    public void insert(int id, Rectangle area) {
+        insert(id, area.x, area.y, area.x + area.width, area.y + area.height);
+    }
+
+    public void insert(int id, float minX, float minY, float maxX, float maxY) {
+        if (id >= queryStamps.length) {
+            int[] grown = new int[Math.max(id + 1, queryStamps.length * 2)];
+            System.arraycopy(queryStamps, 0, grown, 0, queryStamps.length);
+            queryStamps = grown;
+        }
+
+        int startX = cellCoord(minX);
+        int startY = cellCoord(minY);
+        int endX = cellCoord(maxX);
+        int endY = cellCoord(maxY);
+
+        for (int cx = startX; cx <= endX; cx++) {
+            for (int cy = startY; cy <= endY; cy++) {
+                long key = key(cx, cy);
+                IntArray bucket = cells.get(key);
+                if (bucket == null) {
+                    bucket = freeBuckets.size > 0 ? freeBuckets.pop() : new IntArray();
+                    cells.put(key, bucket);
+                }
+                bucket.add(id);
+            }
+        }
+    }
+
+    public void query(Rectangle area, IntArray out) {
+        query(area.x, area.y, area.x + area.width, area.y + area.height, out);
+    }
+
+    public void query(float minX, float minY, float maxX, float maxY, IntArray out) {
+        out.clear();
+        if (++queryStamp == Integer.MAX_VALUE) {
+            Arrays.fill(queryStamps, 0);
+            queryStamp = 1;
+        }
+
+        int startX = cellCoord(minX);
+        int startY = cellCoord(minY);
+        int endX = cellCoord(maxX);
+        int endY = cellCoord(maxY);
+
+        for (int cx = startX; cx <= endX; cx++) {
+            for (int cy = startY; cy <= endY; cy++) {
+                IntArray bucket = cells.get(key(cx, cy));
+                if (bucket == null) continue;
+
+                for (int i = 0; i < bucket.size; i++) {
+                    int id = bucket.get(i);
+                    if (queryStamps[id] != queryStamp) {
+                        queryStamps[id] = queryStamp;
+                        out.add(id);
+                    }
+                }
+            }
+        }
+    }
+
+    public IntArray getCell(int cx, int cy) {
+        return cells.get(key(cx, cy));
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    public int cellCoord(float value) {
+        return (int) Math.floor(value / cellSize);
+    }
+
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+}
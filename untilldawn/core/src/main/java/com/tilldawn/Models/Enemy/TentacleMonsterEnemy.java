@@ -11,17 +11,6 @@ public class TentacleMonsterEnemy extends Enemy {
 
     @Override
     protected void updateBehavior(float delta, Vector2 playerPosition) {
-
-        float dx = playerPosition.x - x;
-        float dy = playerPosition.y - y;
-        float length = (float) Math.sqrt(dx * dx + dy * dy);
-
-        if (length > 0) {
-            dx /= length;
-            dy /= length;
-
-            x += dx * speed * delta;
-            y += dy * speed * delta;
-        }
+        chase(playerPosition, speed * delta);
     }
 }
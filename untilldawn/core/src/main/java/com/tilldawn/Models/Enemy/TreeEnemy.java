@@ -13,4 +13,9 @@ public class TreeEnemy extends Enemy {
     protected void updateBehavior(float delta, Vector2 playerPosition) {
 
     }
+
+    @Override
+    public boolean isObstacle() {
+        return true;
+    }
 }
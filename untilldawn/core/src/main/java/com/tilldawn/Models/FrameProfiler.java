@@ -0,0 +1,286 @@
+package com.tilldawn.Models;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+public class FrameProfiler {
+    public enum Stage {
+        FRAME("frame"),
+        UPDATE("update"),
+        ENEMY_UPDATE("enemyManager.update"),
+        BULLET_COLLISIONS("checkBulletCollisions"),
+        ENEMY_BULLETS("enemyBulletCollisions"),
+        ITEM_COLLISIONS("checkItemCollisions"),
+        BACKGROUND("drawRepeatingBackground"),
+        WORLD_RENDER("drawWorldSprites"),
+        UI("drawUI");
+
+        private final String label;
+
+        Stage(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+    private static final int WINDOW_FRAMES = 240;
+    private static final int REPORT_INTERVAL_FRAMES = 30;
+    private static final int CSV_FLUSH_INTERVAL_FRAMES = 120;
+    private static final float[] PERCENTILES = {0.50f, 0.95f, 0.99f};
+
+    private static FrameProfiler instance;
+
+    private final long[][] samples = new long[STAGES.length][WINDOW_FRAMES];
+    private final long[] current = new long[STAGES.length];
+    private final long[] sorted = new long[WINDOW_FRAMES];
+    private final long[][] percentiles = new long[STAGES.length][PERCENTILES.length];
+    private int sampleIndex;
+    private int sampleCount;
+    private int framesSinceReport;
+    private long frameNumber;
+
+
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private long gcCount;
+    private long gcTimeMillis;
+    private long reportedGcCount;
+    private long gcCountSinceReport;
+
+
+    private int renderCalls;
+    private int enemies;
+    private int items;
+    private int enemyBullets;
+    private int playerBullets;
+    private int spritesDrawn;
+    private int spritesCulled;
+
+
+    private volatile boolean overlayVisible;
+    private volatile FileHandle csvFile;
+    private final StringBuilder csv = new StringBuilder();
+    private final StringBuilder report = new StringBuilder();
+
+    private FrameProfiler() {
+    }
+
+    public static FrameProfiler getInstance() {
+        if (instance == null) {
+            instance = new FrameProfiler();
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return overlayVisible || csvFile != null;
+    }
+
+    public long start() {
+        return isEnabled() ? System.nanoTime() : 0;
+    }
+
+    public synchronized void stop(Stage stage, long startTime) {
+        if (startTime != 0 && isEnabled()) {
+            current[stage.ordinal()] += System.nanoTime() - startTime;
+        }
+    }
+
+    public synchronized void setEntityCounts(int enemies, int items, int enemyBullets, int playerBullets) {
+        this.enemies = enemies;
+        this.items = items;
+        this.enemyBullets = enemyBullets;
+        this.playerBullets = playerBullets;
+    }
+
+    public synchronized void setSpriteCounts(int drawn, int culled) {
+        this.spritesDrawn = drawn;
+        this.spritesCulled = culled;
+    }
+
+    public synchronized void endFrame(int renderCalls) {
+        if (!isEnabled()) return;
+
+        this.renderCalls = renderCalls;
+        readGcCounters();
+        frameNumber++;
+
+        for (int i = 0; i < STAGES.length; i++) {
+            samples[i][sampleIndex] = current[i];
+        }
+        sampleIndex = (sampleIndex + 1) % WINDOW_FRAMES;
+        sampleCount = Math.min(sampleCount + 1, WINDOW_FRAMES);
+
+        if (csvFile != null) {
+            appendCsvRow();
+            if (frameNumber % CSV_FLUSH_INTERVAL_FRAMES == 0) {
+                flushCsv();
+            }
+        }
+
+        Arrays.fill(current, 0);
+
+        if (++framesSinceReport >= REPORT_INTERVAL_FRAMES) {
+            framesSinceReport = 0;
+            computePercentiles();
+            buildReport();
+        }
+    }
+
+    private void readGcCounters() {
+        long count = 0;
+        long time = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            count += Math.max(0, collector.getCollectionCount());
+            time += Math.max(0, collector.getCollectionTime());
+        }
+        gcCount = count;
+        gcTimeMillis = time;
+    }
+
+    private void computePercentiles() {
+        for (int i = 0; i < STAGES.length; i++) {
+            System.arraycopy(samples[i], 0, sorted, 0, sampleCount);
+            Arrays.sort(sorted, 0, sampleCount);
+            for (int p = 0; p < PERCENTILES.length; p++) {
+                int rank = (int) Math.ceil(PERCENTILES[p] * sampleCount) - 1;
+                percentiles[i][p] = sorted[Math.max(0, rank)];
+            }
+        }
+
+        gcCountSinceReport = gcCount - reportedGcCount;
+        reportedGcCount = gcCount;
+    }
+
+    private void buildReport() {
+        report.setLength(0);
+        report.append("Stage (ms)  p50 / p95 / p99\n");
+        for (int i = 0; i < STAGES.length; i++) {
+            report.append(STAGES[i].getLabel()).append("  ");
+            for (int p = 0; p < PERCENTILES.length; p++) {
+                if (p > 0) {
+                    report.append(" / ");
+                }
+                appendMillis(report, percentiles[i][p]);
+            }
+            report.append('\n');
+        }
+
+        report.append("Enemies ").append(enemies)
+            .append("  Items ").append(items)
+            .append("  Bullets ").append(playerBullets).append('/').append(enemyBullets).append('\n');
+        report.append("Sprites drawn ").append(spritesDrawn)
+            .append("  culled ").append(spritesCulled).append('\n');
+        report.append("Draw calls ").append(renderCalls)
+            .append("  GC ").append(gcCount).append(" (+").append(gcCountSinceReport).append(") ")
+            .append(gcTimeMillis).append("ms");
+        if (csvFile != null) {
+            report.append("\nCSV ").append(csvFile.name());
+        }
+    }
+
+    private static void appendMillis(StringBuilder builder, long nanos) {
+        long hundredths = (nanos + 5000) / 10000;
+        builder.append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        builder.append(fraction);
+    }
+
+    public CharSequence getReport() {
+        return report;
+    }
+
+    public boolean isOverlayVisible() {
+        return overlayVisible;
+    }
+
+    public synchronized void toggleOverlay() {
+        if (!isEnabled()) {
+            resetWindow();
+        }
+        overlayVisible = !overlayVisible;
+    }
+
+    public boolean isCsvRecording() {
+        return csvFile != null;
+    }
+
+    public synchronized void toggleCsvRecording() {
+        if (csvFile != null) {
+            stopCsvRecording();
+            return;
+        }
+
+        if (!isEnabled()) {
+            resetWindow();
+        }
+        csvFile = Gdx.files.local("profiler/frames-" + System.currentTimeMillis() + ".csv");
+        csv.setLength(0);
+        csv.append("frame");
+        for (Stage stage : STAGES) {
+            csv.append(',').append(stage.getLabel()).append("_us");
+        }
+        csv.append(",render_calls,enemies,items,enemy_bullets,player_bullets,sprites_drawn,sprites_culled,gc_count,gc_time_ms\n");
+        csvFile.writeString(csv.toString(), false);
+        csv.setLength(0);
+        Gdx.app.log("FrameProfiler", "Recording frame times to " + csvFile.path());
+    }
+
+    public synchronized void stopCsvRecording() {
+        if (csvFile == null) return;
+
+        flushCsv();
+        Gdx.app.log("FrameProfiler", "Saved frame times to " + csvFile.path());
+        csvFile = null;
+    }
+
+    private void appendCsvRow() {
+        csv.append(frameNumber);
+        for (int i = 0; i < STAGES.length; i++) {
+            csv.append(',').append(current[i] / 1000);
+        }
+        csv.append(',').append(renderCalls)
+            .append(',').append(enemies)
+            .append(',').append(items)
+            .append(',').append(enemyBullets)
+            .append(',').append(playerBullets)
+            .append(',').append(spritesDrawn)
+            .append(',').append(spritesCulled)
+            .append(',').append(gcCount)
+            .append(',').append(gcTimeMillis)
+            .append('\n');
+    }
+
+    private void flushCsv() {
+        if (csv.length() == 0) return;
+
+        try {
+            csvFile.writeString(csv.toString(), true);
+        } catch (RuntimeException e) {
+            Gdx.app.error("FrameProfiler", "Error writing " + csvFile.path(), e);
+        }
+        csv.setLength(0);
+    }
+
+    private void resetWindow() {
+        Arrays.fill(current, 0);
+        sampleIndex = 0;
+        sampleCount = 0;
+        framesSinceReport = 0;
+        frameNumber = 0;
+        report.setLength(0);
+        readGcCounters();
+        reportedGcCount = gcCount;
+    }
+}
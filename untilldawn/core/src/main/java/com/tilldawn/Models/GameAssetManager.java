@@ -1,25 +1,25 @@
 package com.tilldawn.Models;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
-import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 
 public class GameAssetManager {
     private static GameAssetManager gameAssetManager ;
-    private Skin skin ;
+    private final AssetManager assetManager;
 
 
-    private Texture mainMenuBackground;
+    private TextureAtlas gameplayAtlas;
+    private final ObjectMap<String, TextureAtlas.AtlasRegion> gameplayRegions = new ObjectMap<>();
 
     private GameAssetManager() {
-        loadAssets();
-    }
-
-    private void loadAssets() {
-        skin = new Skin(Gdx.files.internal("skin/pixthulhu-ui.json"));
-
-        mainMenuBackground = new Texture(Gdx.files.internal("backgrounds/back1.png"));
+        assetManager = new AssetManager();
     }
 
 
@@ -29,16 +29,126 @@ public class GameAssetManager {
         return gameAssetManager;
     }
 
-    public Skin getSkin() {
-        return skin;
+    public void load(AssetManifest manifest) {
+        for (AssetDescriptor<?> asset : manifest.getAssets()) {
+            if (!Gdx.files.internal(asset.fileName).exists()) {
+                Gdx.app.error("GameAssetManager", manifest.getName() + " asset not found: " + asset.fileName);
+                continue;
+            }
+            assetManager.load(asset);
+        }
     }
 
-    public void setSkin(Skin skin) {
-        this.skin = skin;
+    public void unload(AssetManifest manifest) {
+        for (AssetDescriptor<?> asset : manifest.getAssets()) {
+            if (assetManager.contains(asset.fileName)) {
+                assetManager.unload(asset.fileName);
+            }
+        }
+
+        if (gameplayAtlas != null && !assetManager.isLoaded(AssetManifest.GAMEPLAY_ATLAS)) {
+            gameplayAtlas = null;
+            gameplayRegions.clear();
+        }
+    }
+
+    public boolean update(int budgetMillis) {
+        return assetManager.update(budgetMillis);
+    }
+
+    public float getProgress() {
+        return assetManager.getProgress();
+    }
+
+    public void finishLoading(AssetManifest manifest) {
+        for (AssetDescriptor<?> asset : manifest.getAssets()) {
+            if (assetManager.contains(asset.fileName)) {
+                assetManager.finishLoadingAsset(asset.fileName);
+            }
+        }
+    }
+
+    public boolean isLoaded(AssetManifest manifest) {
+        for (AssetDescriptor<?> asset : manifest.getAssets()) {
+            if (assetManager.contains(asset.fileName) && !assetManager.isLoaded(asset.fileName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public <T> T get(String fileName, Class<T> type) {
+        if (!assetManager.isLoaded(fileName, type)) {
+            throw new GdxRuntimeException("Asset not loaded: " + fileName + ", queue its manifest through LoadingScreen");
+        }
+        return assetManager.get(fileName, type);
+    }
+
+    public Texture acquireTexture(String fileName) {
+        assetManager.load(fileName, Texture.class);
+        return assetManager.finishLoadingAsset(fileName);
+    }
+
+    public void releaseTexture(String fileName) {
+        if (assetManager.contains(fileName)) {
+            assetManager.unload(fileName);
+        }
+    }
+
+    public Skin getSkin() {
+        return get(AssetManifest.SKIN, Skin.class);
     }
 
     public Texture getMainMenuBackground() {
-        return mainMenuBackground;
+        return get(AssetManifest.MAIN_MENU_BACKGROUND, Texture.class);
+    }
+
+    private TextureAtlas getGameplayAtlas() {
+        if (gameplayAtlas == null && assetManager.isLoaded(AssetManifest.GAMEPLAY_ATLAS)) {
+            gameplayAtlas = assetManager.get(AssetManifest.GAMEPLAY_ATLAS, TextureAtlas.class);
+            for (TextureAtlas.AtlasRegion region : gameplayAtlas.getRegions()) {
+                gameplayRegions.put(region.name.toLowerCase(), region);
+            }
+        }
+        return gameplayAtlas;
+    }
+
+    public TextureAtlas.AtlasRegion findGameplayRegion(String texturePath) {
+        if (getGameplayAtlas() == null) {
+            return null;
+        }
+
+        String name = texturePath.toLowerCase();
+        int extension = name.lastIndexOf('.');
+        if (extension > 0) {
+            name = name.substring(0, extension);
+        }
+        return gameplayRegions.get(name);
+    }
+
+    public boolean isGameplayAtlasTexture(Texture texture) {
+        return getGameplayAtlas() != null && gameplayAtlas.getTextures().contains(texture);
+    }
+
+    public TextureRegion loadGameplayRegion(String texturePath) {
+        TextureRegion region = findGameplayRegion(texturePath);
+        if (region != null) {
+            return region;
+        }
+        return new TextureRegion(acquireTexture(texturePath));
+    }
+
+    public void disposeGameplayRegion(TextureRegion region) {
+        if (region == null || region.getTexture() == null || isGameplayAtlasTexture(region.getTexture())) {
+            return;
+        }
+
+        String fileName = assetManager.getAssetFileName(region.getTexture());
+        if (fileName != null) {
+            releaseTexture(fileName);
+        } else {
+            region.getTexture().dispose();
+        }
     }
 
     public static void resetGameAssetManager() {
@@ -51,12 +161,8 @@ public class GameAssetManager {
 
 
     public void dispose() {
-        if (skin != null) {
-            skin.dispose();
-        }
-        skin.dispose();
-        if (mainMenuBackground != null) {
-            mainMenuBackground.dispose();
-        }
+        gameplayAtlas = null;
+        gameplayRegions.clear();
+        assetManager.dispose();
     }
 }
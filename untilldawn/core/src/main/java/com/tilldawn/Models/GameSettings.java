@@ -6,6 +6,7 @@ import com.badlogic.gdx.Preferences;
 public class GameSettings {
     private static final String PREFS_NAME = "tilldawn_settings";
     private static final String CONTROL_TYPE_KEY = "control_type";
+    private static final String THREADED_SIMULATION_KEY = "threaded_simulation";
 
 
     public enum ControlType {
@@ -15,6 +16,7 @@ public class GameSettings {
     private static GameSettings instance;
     private Preferences prefs;
     private ControlType controlType;
+    private boolean threadedSimulation;
 
     private GameSettings() {
         prefs = Gdx.app.getPreferences(PREFS_NAME);
@@ -25,6 +27,8 @@ public class GameSettings {
         } catch (Exception e) {
             controlType = ControlType.WASD;
         }
+
+        threadedSimulation = prefs.getBoolean(THREADED_SIMULATION_KEY, false);
     }
 
     public static GameSettings getInstance() {
@@ -51,4 +55,14 @@ public class GameSettings {
     public boolean isUsingArrows() {
         return controlType == ControlType.ARROWS;
     }
+
+    public boolean isThreadedSimulation() {
+        return threadedSimulation;
+    }
+
+    public void setThreadedSimulation(boolean threadedSimulation) {
+        this.threadedSimulation = threadedSimulation;
+        prefs.putBoolean(THREADED_SIMULATION_KEY, threadedSimulation);
+        prefs.flush();
+    }
 }
@@ -0,0 +1,665 @@
+package com.tilldawn.Models;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.tilldawn.Models.Enemy.ElderEnemy;
+import com.tilldawn.Models.Enemy.Enemy;
+import com.tilldawn.Models.Enemy.EnemyManager;
+import com.tilldawn.Models.Hero.AbilityType;
+import com.tilldawn.Models.Hero.HeroType;
+import com.tilldawn.Models.Hero.WeaponType;
+import com.tilldawn.Models.Item.Item;
+
+public class GameWorld {
+    public static final float WORLD_WIDTH = 3000;
+    public static final float WORLD_HEIGHT = 3000;
+    public static final float PLAYER_WIDTH = 64;
+    public static final float PLAYER_HEIGHT = 64;
+    public static final float FIXED_TIMESTEP = 1f / 60f;
+
+    private static final float INVINCIBILITY_DURATION = 1.0f;
+    private static final float AUTO_AIM_RANGE = 800f;
+    private static final float CAPTURE_MARGIN = 64f;
+    private static final float BOSS_SPAWN_OFFSET = 200f;
+
+    public interface Listener {
+        void onLevelUp(AbilityType[] choices);
+
+        void onGameOver();
+    }
+
+    private final RandomXS128 random;
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
+    private final EnemyManager enemyManager;
+    private final HeroType selectedHero;
+    private final int gameTimeMinutes;
+    private Listener listener;
+
+    private Weapon currentWeapon;
+
+
+    private final Vector2 playerPosition;
+    private final Vector2 previousPlayerPosition;
+    private final Vector2 playerVelocity;
+    private final Rectangle playerBounds;
+    private boolean isPlayerMoving;
+    private int playerKills = 0;
+
+
+    private float playerHealth;
+    private float playerMaxHealth;
+    private float playerSpeed;
+    private float basePlayerSpeed;
+    private float damageMultiplier = 1.0f;
+    private float speedMultiplier = 1.0f;
+    private float invincibilityTimer = 0;
+    private float damageBoostTimer = 0;
+    private float speedBoostTimer = 0;
+
+
+    private int playerLevel = 1;
+    private int playerXP = 0;
+    private int xpToNextLevel = 20;
+    private final Array<AbilityType> playerAbilities = new Array<>();
+    private AbilityType[] pendingAbilityChoices;
+
+
+    private float gameTimeElapsed = 0;
+    private boolean gameOver = false;
+
+
+    private float moveX, moveY;
+    private float aimX, aimY;
+    private boolean firing;
+    private boolean autoAim;
+    private boolean infiniteShooting;
+    private Enemy autoAimTarget;
+    private final Rectangle captureView = new Rectangle();
+    private final SoundEvents soundEvents = new SoundEvents();
+    private final WorldCommands commands = new WorldCommands();
+
+    public GameWorld(HeroType hero, WeaponType weapon, int timeMinutes, long seed) {
+        this.selectedHero = hero;
+        this.gameTimeMinutes = timeMinutes;
+        this.random = new RandomXS128(seed);
+
+        if (hero != null) {
+            this.playerMaxHealth = hero.getHealthPoints() * 25;
+            this.playerHealth = this.playerMaxHealth;
+            this.basePlayerSpeed = hero.getSpeed() * 40;
+            this.playerSpeed = this.basePlayerSpeed;
+        }
+
+        playerPosition = new Vector2(WORLD_WIDTH / 2, WORLD_HEIGHT / 2);
+        previousPlayerPosition = new Vector2(playerPosition);
+        playerVelocity = new Vector2();
+        playerBounds = new Rectangle(
+            playerPosition.x - PLAYER_WIDTH/2,
+            playerPosition.y - PLAYER_HEIGHT/2,
+            PLAYER_WIDTH,
+            PLAYER_HEIGHT
+        );
+
+        enemyManager = new EnemyManager(WORLD_WIDTH, WORLD_HEIGHT, timeMinutes * 60, random);
+        currentWeapon = new Weapon(weapon != null ? weapon : WeaponType.REVOLVER, enemyManager.getBulletSystem(), soundEvents);
+    }
+
+    public void tick(float delta) {
+        if (gameOver) return;
+
+        previousPlayerPosition.set(playerPosition);
+
+
+        gameTimeElapsed += delta;
+        if (gameTimeElapsed >= gameTimeMinutes * 60) {
+            endGame();
+            return;
+        }
+
+
+        if (invincibilityTimer > 0) {
+            invincibilityTimer -= delta;
+        }
+
+
+        if (damageBoostTimer > 0) {
+            damageBoostTimer -= delta;
+            if (damageBoostTimer <= 0) {
+                damageMultiplier = 1.0f;
+            }
+        }
+
+        if (speedBoostTimer > 0) {
+            speedBoostTimer -= delta;
+            if (speedBoostTimer <= 0) {
+                speedMultiplier = 1.0f;
+                playerSpeed = basePlayerSpeed;
+            }
+        }
+
+
+        float targetX = aimX;
+        float targetY = aimY;
+
+        autoAimTarget = null;
+        if (autoAim) {
+            autoAimTarget = findNearestEnemy();
+            if (autoAimTarget != null) {
+                targetX = autoAimTarget.getX();
+                targetY = autoAimTarget.getY();
+            }
+        }
+
+
+        if (currentWeapon != null) {
+            currentWeapon.update(delta, playerPosition, targetX, targetY);
+
+
+            if (firing || autoAimTarget != null) {
+
+                boolean shotFired = currentWeapon.shoot(playerPosition, targetX, targetY, infiniteShooting);
+
+                if (shotFired && damageMultiplier > 1.0f) {
+
+                    currentWeapon.getBulletSystem().scaleDamage(BulletSystem.OWNER_PLAYER, damageMultiplier);
+                }
+            }
+        }
+
+
+        long stageStart = profiler.start();
+        enemyManager.update(delta, playerPosition);
+        profiler.stop(FrameProfiler.Stage.ENEMY_UPDATE, stageStart);
+
+
+        if (currentWeapon != null) {
+            stageStart = profiler.start();
+            enemyManager.checkBulletCollisions(this);
+            profiler.stop(FrameProfiler.Stage.BULLET_COLLISIONS, stageStart);
+        }
+
+
+        if (invincibilityTimer <= 0) {
+            stageStart = profiler.start();
+            int bulletDamage = enemyManager.checkEnemyBulletCollisions(playerBounds);
+            profiler.stop(FrameProfiler.Stage.ENEMY_BULLETS, stageStart);
+            if (bulletDamage != HostileBulletCollider.NO_HIT) {
+                takeDamage(bulletDamage);
+            }
+        }
+
+
+        if (invincibilityTimer <= 0) {
+            if (enemyManager.checkPlayerCollisions(playerBounds)) {
+
+                takeDamage(10);
+            }
+        }
+
+
+        stageStart = profiler.start();
+        Array<Item> collectedItems = enemyManager.checkItemCollisions(playerBounds);
+        profiler.stop(FrameProfiler.Stage.ITEM_COLLISIONS, stageStart);
+        for (int i = 0; i < collectedItems.size; i++) {
+            applyItemEffect(collectedItems.get(i));
+        }
+
+
+        playerVelocity.set(moveX, moveY);
+
+        if (playerVelocity.len() > 0) {
+
+            playerVelocity.nor().scl(playerSpeed * speedMultiplier * delta);
+            playerPosition.add(playerVelocity);
+            isPlayerMoving = true;
+
+
+            playerBounds.setPosition(
+                playerPosition.x - PLAYER_WIDTH/2,
+                playerPosition.y - PLAYER_HEIGHT/2
+            );
+        } else {
+            isPlayerMoving = false;
+        }
+    }
+
+    private void takeDamage(float amount) {
+        soundEvents.add(SoundManager.PLAYER_HURT, 0.4f);
+
+        if (invincibilityTimer > 0) {
+            return;
+        }
+
+
+        playerHealth -= amount;
+
+
+        invincibilityTimer = INVINCIBILITY_DURATION;
+
+
+        if (playerHealth <= 0) {
+            playerHealth = 0;
+            endGame();
+        }
+    }
+
+    private void endGame() {
+        gameOver = true;
+        if (listener != null) {
+            listener.onGameOver();
+        }
+    }
+
+    public Enemy findNearestEnemy() {
+        return enemyManager.findNearestEnemy(playerPosition, AUTO_AIM_RANGE);
+    }
+
+    private void applyItemEffect(Item item) {
+        switch (item.getType()) {
+            case HEALTH:
+
+                playerHealth = Math.min(playerHealth + 25, playerMaxHealth);
+                break;
+
+            case AMMO:
+
+                if (currentWeapon != null) {
+                    currentWeapon.addAmmo(10);
+                }
+                break;
+
+            case SPEED_BOOST:
+
+                speedMultiplier = 1.5f;
+                playerSpeed = basePlayerSpeed * speedMultiplier;
+                speedBoostTimer = 10;
+                break;
+
+            case DAMAGE_BOOST:
+
+                damageMultiplier = 2.0f;
+                damageBoostTimer = 10;
+                break;
+
+            case EXPERIENCE:
+
+                addXP(3);
+                break;
+        }
+    }
+
+    private void addXP(int amount) {
+        playerXP += amount;
+
+
+        if (playerXP >= xpToNextLevel) {
+            levelUp();
+        }
+    }
+
+    public void addKill() {
+        playerKills++;
+    }
+
+    private void levelUp() {
+        soundEvents.add(SoundManager.LEVEL_UP, 0.9f);
+
+        playerLevel++;
+        playerXP -= xpToNextLevel;
+
+
+        xpToNextLevel = 20 * playerLevel;
+
+        offerAbilities();
+    }
+
+    public void forceLevelUp() {
+        soundEvents.add(SoundManager.LEVEL_UP, 0.9f);
+        playerLevel++;
+
+        xpToNextLevel = 20 * playerLevel;
+
+        offerAbilities();
+    }
+
+    private void offerAbilities() {
+        pendingAbilityChoices = getRandomAbilities(3);
+
+        if (listener != null) {
+            listener.onLevelUp(pendingAbilityChoices);
+        }
+    }
+
+    private AbilityType[] getRandomAbilities(int count) {
+        AbilityType[] allTypes = AbilityType.values();
+
+
+        if (count > allTypes.length) {
+            count = allTypes.length;
+        }
+
+
+        AbilityType[] abilities = new AbilityType[count];
+        boolean[] used = new boolean[allTypes.length];
+
+        for (int i = 0; i < count; i++) {
+            int index;
+            do {
+                index = random.nextInt(allTypes.length);
+            } while (used[index]);
+
+            used[index] = true;
+            abilities[i] = allTypes[index];
+        }
+
+        return abilities;
+    }
+
+    public void selectAbility(AbilityType ability) {
+        playerAbilities.add(ability);
+        pendingAbilityChoices = null;
+
+        switch (ability) {
+            case VITALITY:
+
+                playerMaxHealth += 25;
+                playerHealth += 25;
+                break;
+            case DAMAGER:
+
+                damageMultiplier = 1.25f;
+                damageBoostTimer = 10;
+                break;
+            case PROCREASE:
+
+                if (currentWeapon != null) {
+                    currentWeapon.increaseProjectileCount(1);
+                }
+                break;
+            case AMOCREASE:
+
+                if (currentWeapon != null) {
+                    currentWeapon.increaseMaxAmmo(5);
+                    currentWeapon.addAmmo(5);
+                }
+                break;
+            case SPEEDY:
+
+                speedMultiplier = 2.0f;
+                playerSpeed = basePlayerSpeed * speedMultiplier;
+                speedBoostTimer = 10;
+                break;
+        }
+    }
+
+    public WorldCommands getCommands() {
+        return commands;
+    }
+
+    public void applyCommands() {
+        setMoveDirection(commands.getMoveX(), commands.getMoveY());
+        setAimTarget(commands.getAimX(), commands.getAimY());
+        setFiring(commands.isFiring());
+        setAutoAim(commands.isAutoAim());
+        setInfiniteShooting(commands.isInfiniteShooting());
+        if (commands.isReloadHeld()) {
+            startReload();
+        }
+
+
+        while (commands.next()) {
+            switch (commands.getCode()) {
+                case WorldCommands.RELOAD:
+                    startReload();
+                    break;
+                case WorldCommands.SELECT_ABILITY:
+                    if (pendingAbilityChoices != null) {
+                        selectAbility(AbilityType.values()[commands.getArgument()]);
+                    }
+                    break;
+                case WorldCommands.GIVE_UP:
+                    setGameOver(true);
+                    break;
+                case WorldCommands.SET_WEAPON:
+                    setWeapon(WeaponType.values()[commands.getArgument()]);
+                    break;
+                case WorldCommands.FORCE_LEVEL_UP:
+                    forceLevelUp();
+                    break;
+                case WorldCommands.REFILL_HEALTH:
+                    refillPlayerHealth();
+                    break;
+                case WorldCommands.DECREASE_TIME:
+                    decreaseGameTime(commands.getArgument());
+                    break;
+                case WorldCommands.BOSS_FIGHT:
+                    startBossFight();
+                    break;
+            }
+        }
+    }
+
+    public void startBossFight() {
+        enemyManager.clearAllEnemies();
+        enemyManager.addCustomEnemy(new ElderEnemy(
+            playerPosition.x + BOSS_SPAWN_OFFSET, playerPosition.y, getRemainingGameTime()));
+    }
+
+    public void capture(WorldSnapshot out, float viewWidth, float viewHeight) {
+        captureView.set(
+            playerPosition.x - viewWidth/2 - CAPTURE_MARGIN,
+            playerPosition.y - viewHeight/2 - CAPTURE_MARGIN,
+            viewWidth + CAPTURE_MARGIN * 2,
+            viewHeight + CAPTURE_MARGIN * 2
+        );
+
+        out.clearSprites();
+        enemyManager.capture(out, captureView);
+
+
+        out.setPlayer(previousPlayerPosition.x, previousPlayerPosition.y,
+            playerPosition.x, playerPosition.y,
+            playerVelocity.x, playerVelocity.y,
+            isPlayerMoving, invincibilityTimer);
+
+        if (currentWeapon != null) {
+            currentWeapon.capture(out);
+        } else {
+            out.setWeapon(null, null, 0, 0, 0, 0, 0, 0, false, 0);
+        }
+
+        if (autoAimTarget != null && autoAimTarget.isAlive()) {
+            out.setAutoAimTarget(true,
+                autoAimTarget.getRenderX(0), autoAimTarget.getRenderY(0),
+                autoAimTarget.getX(), autoAimTarget.getY());
+        } else {
+            out.setAutoAimTarget(false, 0, 0, 0, 0);
+        }
+
+
+        out.setStatus(getRemainingGameTime(), gameTimeElapsed, playerHealth, playerMaxHealth, playerKills,
+            playerLevel, playerXP, xpToNextLevel, damageBoostTimer, speedBoostTimer,
+            gameOver, playerAbilities);
+        BulletSystem bullets = enemyManager.getBulletSystem();
+        out.setEntityCounts(enemyManager.getEnemies().size, enemyManager.getItems().size,
+            bullets.size(BulletSystem.OWNER_ENEMY), bullets.size(BulletSystem.OWNER_PLAYER));
+        soundEvents.moveTo(out.getSounds());
+    }
+
+    public void startReload() {
+        if (currentWeapon != null) {
+            currentWeapon.startReload();
+        }
+    }
+
+    public void setMoveDirection(float x, float y) {
+        this.moveX = x;
+        this.moveY = y;
+    }
+
+    public void setAimTarget(float x, float y) {
+        this.aimX = x;
+        this.aimY = y;
+    }
+
+    public void setFiring(boolean firing) {
+        this.firing = firing;
+    }
+
+    public void setAutoAim(boolean autoAim) {
+        this.autoAim = autoAim;
+    }
+
+    public boolean isAutoAim() {
+        return autoAim;
+    }
+
+    public void setInfiniteShooting(boolean infiniteShooting) {
+        this.infiniteShooting = infiniteShooting;
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    public Enemy getAutoAimTarget() {
+        return autoAimTarget;
+    }
+
+    public AbilityType[] getPendingAbilityChoices() {
+        return pendingAbilityChoices;
+    }
+
+    public boolean isAwaitingAbilityChoice() {
+        return pendingAbilityChoices != null;
+    }
+
+    public void setWeapon(WeaponType weaponType) {
+        if (currentWeapon != null) {
+            currentWeapon.dispose();
+        }
+        currentWeapon = new Weapon(weaponType, enemyManager.getBulletSystem(), soundEvents);
+    }
+
+    public Weapon getCurrentWeapon() {
+        return currentWeapon;
+    }
+
+    public EnemyManager getEnemyManager() {
+        return enemyManager;
+    }
+
+    public HeroType getSelectedHero() {
+        return selectedHero;
+    }
+
+    public Vector2 getPlayerPosition() {
+        return playerPosition;
+    }
+
+    public Vector2 getPlayerVelocity() {
+        return playerVelocity;
+    }
+
+    public Rectangle getPlayerBounds() {
+        return playerBounds;
+    }
+
+    public boolean isPlayerMoving() {
+        return isPlayerMoving;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public void setGameOver(boolean gameOver) {
+        this.gameOver = gameOver;
+    }
+
+    public boolean isTimeUp() {
+        return gameTimeElapsed >= gameTimeMinutes * 60;
+    }
+
+    public boolean isPlayerDead() {
+        return playerHealth <= 0;
+    }
+
+    public float getInvincibilityTimer() {
+        return invincibilityTimer;
+    }
+
+    public int getPlayerKills() {
+        return playerKills;
+    }
+
+    public float getSurvivalTime() {
+        return gameTimeElapsed;
+    }
+
+    public int getGameTimeMinutes() {
+        return gameTimeMinutes;
+    }
+
+    public float getRemainingGameTime() {
+        return gameTimeMinutes * 60 - gameTimeElapsed;
+    }
+
+    public boolean decreaseGameTime(float seconds) {
+
+        float remainingTime = gameTimeMinutes * 60 - gameTimeElapsed;
+        if (remainingTime > seconds) {
+            gameTimeElapsed += seconds;
+            return true;
+        }
+        return false;
+    }
+
+    public void refillPlayerHealth() {
+        playerHealth = playerMaxHealth;
+    }
+
+    public float getPlayerHealth() {
+        return playerHealth;
+    }
+
+    public float getPlayerMaxHealth() {
+        return playerMaxHealth;
+    }
+
+    public int getPlayerLevel() {
+        return playerLevel;
+    }
+
+    public int getPlayerXP() {
+        return playerXP;
+    }
+
+    public int getXpToNextLevel() {
+        return xpToNextLevel;
+    }
+
+    public Array<AbilityType> getPlayerAbilities() {
+        return playerAbilities;
+    }
+
+    public float getDamageBoostTimer() {
+        return damageBoostTimer;
+    }
+
+    public float getSpeedBoostTimer() {
+        return speedBoostTimer;
+    }
+
+    public RandomXS128 getRandom() {
+        return random;
+    }
+
+    public void dispose() {
+        if (currentWeapon != null) {
+            currentWeapon.dispose();
+        }
+    }
+}
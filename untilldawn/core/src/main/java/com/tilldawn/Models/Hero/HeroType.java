@@ -1,8 +1,8 @@
 package com.tilldawn.Models.Hero;
 
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.tilldawn.Models.GameAssetManager;
 
 public enum HeroType {
     SHANA(
@@ -83,8 +83,7 @@ public enum HeroType {
     public TextureRegion getTextureRegion() {
         if (textureRegion == null) {
             try {
-                Texture texture = new Texture(texturePath);
-                textureRegion = new TextureRegion(texture);
+                textureRegion = GameAssetManager.getGameAssetManager().loadGameplayRegion(texturePath);
             } catch (Exception e) {
 
                 System.err.println("Error loading texture for " + name + ": " + e.getMessage());
@@ -94,10 +93,8 @@ public enum HeroType {
     }
 
     public void disposeTexture() {
-        if (textureRegion != null && textureRegion.getTexture() != null) {
-            textureRegion.getTexture().dispose();
-            textureRegion = null;
-        }
+        GameAssetManager.getGameAssetManager().disposeGameplayRegion(textureRegion);
+        textureRegion = null;
     }
 
     public static void disposeAllTextures() {
@@ -1,6 +1,7 @@
 package com.tilldawn.Models.Hero;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.tilldawn.Models.GameAssetManager;
 
 public enum WeaponType {
     REVOLVER("Revolver", 20, 1, 1.0f, 6,
@@ -72,8 +73,7 @@ public enum WeaponType {
     public TextureRegion getTextureRegion() {
         if (textureRegion == null) {
             try {
-                Texture texture = new Texture(texturePath);
-                textureRegion = new TextureRegion(texture);
+                textureRegion = GameAssetManager.getGameAssetManager().loadGameplayRegion(texturePath);
             } catch (Exception e) {
 
                 System.err.println("Error loading texture for " + name + ": " + e.getMessage());
@@ -84,9 +84,8 @@ public enum WeaponType {
 
     public static void disposeAllTextures() {
         for (WeaponType weapon : values()) {
-            if (weapon.textureRegion != null && weapon.textureRegion.getTexture() != null) {
-                weapon.textureRegion.getTexture().dispose();
-            }
+            GameAssetManager.getGameAssetManager().disposeGameplayRegion(weapon.textureRegion);
+            weapon.textureRegion = null;
         }
     }
 }
@@ -0,0 +1,92 @@
+package com.tilldawn.Models;
+
+import com.badlogic.gdx.math.Rectangle;
+
+public class HostileBulletCollider {
+    public static final int NO_HIT = -1;
+
+    private static final float QUERY_MARGIN = BulletSystem.BULLET_SIZE;
+
+    private final Rectangle queryRegion = new Rectangle();
+    private int[] visitedBuckets = new int[4];
+    private int lastCandidateTests;
+    private long totalCandidateTests;
+    private int totalHits;
+
+    public int resolve(BulletSystem bullets, Rectangle playerBounds) {
+        lastCandidateTests = 0;
+
+        if (bullets.size(BulletSystem.OWNER_ENEMY) == 0) {
+            return NO_HIT;
+        }
+
+        queryRegion.set(
+            playerBounds.x - QUERY_MARGIN,
+            playerBounds.y - QUERY_MARGIN,
+            playerBounds.width + QUERY_MARGIN * 2,
+            playerBounds.height + QUERY_MARGIN * 2);
+        float minX = queryRegion.x;
+        float minY = queryRegion.y;
+        float maxX = queryRegion.x + queryRegion.width;
+        float maxY = queryRegion.y + queryRegion.height;
+
+        int minCellX = (int) Math.floor(minX / BulletSystem.HOSTILE_CELL_SIZE);
+        int minCellY = (int) Math.floor(minY / BulletSystem.HOSTILE_CELL_SIZE);
+        int maxCellX = (int) Math.floor(maxX / BulletSystem.HOSTILE_CELL_SIZE);
+        int maxCellY = (int) Math.floor(maxY / BulletSystem.HOSTILE_CELL_SIZE);
+        int cells = (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1);
+        if (visitedBuckets.length < cells) {
+            visitedBuckets = new int[cells];
+        }
+        int visited = 0;
+
+        for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                int bucket = BulletSystem.hostileBucket(cellX, cellY);
+                if (contains(visitedBuckets, visited, bucket)) continue;
+                visitedBuckets[visited++] = bucket;
+
+                for (int i = bullets.firstHostile(bucket); i >= 0; i = bullets.nextHostile(i)) {
+                    lastCandidateTests++;
+                    totalCandidateTests++;
+
+                    float x = bullets.getX(i);
+                    float y = bullets.getY(i);
+                    if (x < minX || x > maxX || y < minY || y > maxY) continue;
+
+                    if (bullets.overlaps(i, playerBounds)) {
+                        int damage = bullets.getDamage(i);
+                        bullets.remove(i);
+                        totalHits++;
+                        return damage;
+                    }
+                }
+            }
+        }
+
+        return NO_HIT;
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) return true;
+        }
+        return false;
+    }
+
+    public Rectangle getQueryRegion() {
+        return queryRegion;
+    }
+
+    public int getLastCandidateTests() {
+        return lastCandidateTests;
+    }
+
+    public long getTotalCandidateTests() {
+        return totalCandidateTests;
+    }
+
+    public int getTotalHits() {
+        return totalHits;
+    }
+}
@@ -1,8 +1,8 @@
 package com.tilldawn.Models.Item;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.tilldawn.Models.WorldSnapshot;
 
 public class Item {
     private ItemType type;
@@ -14,15 +14,21 @@ public class Item {
     private float floatOffset;
 
     public Item(ItemType type, float x, float y) {
+        this.width = 20;
+        this.height = 20;
+        this.bounds = new Rectangle();
+        set(type, x, y);
+    }
+
+    public Item set(ItemType type, float x, float y) {
         this.type = type;
         this.x = x;
         this.y = y;
-        this.width = 20;
-        this.height = 20;
-        this.bounds = new Rectangle(x - width/2, y - height/2, width, height);
+        this.bounds.set(x - width/2, y - height/2, width, height);
         this.stateTime = 0;
         this.lifeTime = 15;
         this.floatOffset = 0;
+        return this;
     }
 
     public void update(float delta) {
@@ -36,12 +42,12 @@ public class Item {
         bounds.setPosition(x - width/2, y - height/2 + floatOffset);
     }
 
-    public void render(SpriteBatch batch) {
+    public void capture(WorldSnapshot out) {
         if (type.getTextureRegion() != null) {
-            batch.draw(type.getTextureRegion(),
-                x - width/2,
-                y - height/2 + floatOffset,
-                width, height);
+            out.addSprite(type.getTextureRegion(),
+                x, y + floatOffset,
+                x, y + floatOffset,
+                width, height, 0);
         }
     }
 
@@ -53,6 +59,10 @@ public class Item {
         return lifeTime <= 0;
     }
 
+    public Rectangle getBounds() {
+        return bounds;
+    }
+
     public ItemType getType() {
         return type;
     }
@@ -60,4 +70,16 @@ public class Item {
     public Vector2 getPosition() {
         return new Vector2(x, y);
     }
+
+    public Vector2 getPosition(Vector2 out) {
+        return out.set(x, y);
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
 }
@@ -1,7 +1,7 @@
 package com.tilldawn.Models.Item;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.tilldawn.Models.GameAssetManager;
 
 public enum ItemType {
     HEALTH("Health", "items/health.png"),
@@ -38,8 +38,7 @@ public enum ItemType {
     public static void loadTextures() {
         for (ItemType type : values()) {
             try {
-                Texture texture = new Texture(type.getTexturePath());
-                type.setTextureRegion(new TextureRegion(texture));
+                type.setTextureRegion(GameAssetManager.getGameAssetManager().loadGameplayRegion(type.getTexturePath()));
             } catch (Exception e) {
                 System.err.println("Failed to load texture for item: " + type.getName());
             }
@@ -48,9 +47,7 @@ public enum ItemType {
 
     public static void disposeTextures() {
         for (ItemType type : values()) {
-            if (type.textureRegion != null && type.textureRegion.getTexture() != null) {
-                type.textureRegion.getTexture().dispose();
-            }
+            GameAssetManager.getGameAssetManager().disposeGameplayRegion(type.textureRegion);
         }
     }
 }
@@ -0,0 +1,241 @@
+package com.tilldawn.Models;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.util.Comparator;
+import java.util.List;
+
+public class Leaderboard {
+    public enum SortType {
+        SCORE, USERNAME, KILLS, SURVIVAL_TIME
+    }
+
+    public static class Entry {
+        private final String userName;
+        private int highScore;
+        private int totalKills;
+        private float longestSurvivalTime;
+
+        private Entry(String userName) {
+            this.userName = userName;
+        }
+
+        private boolean matches(User user) {
+            return highScore == user.getHighScore()
+                && totalKills == user.getTotalKills()
+                && longestSurvivalTime == user.getLongestSurvivalTime();
+        }
+
+        private void copyFrom(User user) {
+            highScore = user.getHighScore();
+            totalKills = user.getTotalKills();
+            longestSurvivalTime = user.getLongestSurvivalTime();
+        }
+
+        public String getUserName() {
+            return userName;
+        }
+
+        public int getHighScore() {
+            return highScore;
+        }
+
+        public int getTotalKills() {
+            return totalKills;
+        }
+
+        public float getLongestSurvivalTime() {
+            return longestSurvivalTime;
+        }
+    }
+
+
+    private static final Comparator<Entry> BY_NAME = new Comparator<Entry>() {
+        @Override
+        public int compare(Entry a, Entry b) {
+            return a.userName.compareTo(b.userName);
+        }
+    };
+
+    private static final Comparator<Entry> BY_SCORE = new Comparator<Entry>() {
+        @Override
+        public int compare(Entry a, Entry b) {
+            int result = Integer.compare(b.highScore, a.highScore);
+            return result != 0 ? result : BY_NAME.compare(a, b);
+        }
+    };
+
+    private static final Comparator<Entry> BY_NAME_DESCENDING = new Comparator<Entry>() {
+        @Override
+        public int compare(Entry a, Entry b) {
+            return BY_NAME.compare(b, a);
+        }
+    };
+
+    private static final Comparator<Entry> BY_KILLS = new Comparator<Entry>() {
+        @Override
+        public int compare(Entry a, Entry b) {
+            int result = Integer.compare(b.totalKills, a.totalKills);
+            return result != 0 ? result : BY_NAME.compare(a, b);
+        }
+    };
+
+    private static final Comparator<Entry> BY_SURVIVAL_TIME = new Comparator<Entry>() {
+        @Override
+        public int compare(Entry a, Entry b) {
+            int result = Float.compare(b.longestSurvivalTime, a.longestSurvivalTime);
+            return result != 0 ? result : BY_NAME.compare(a, b);
+        }
+    };
+
+
+    private final ObjectMap<String, Entry> entries = new ObjectMap<>();
+    private final Array<Entry>[] views;
+    private final boolean[] dirty;
+
+    @SuppressWarnings("unchecked")
+    public Leaderboard() {
+        SortType[] types = SortType.values();
+        views = (Array<Entry>[]) new Array<?>[types.length];
+        dirty = new boolean[types.length];
+        for (int i = 0; i < types.length; i++) {
+            views[i] = new Array<>(Entry.class);
+        }
+    }
+
+    public void rebuild(List<User> users) {
+        entries.clear();
+        for (Array<Entry> view : views) {
+            view.clear();
+        }
+
+        for (User user : users) {
+            Entry entry = new Entry(user.getUserName());
+            entry.copyFrom(user);
+            entries.put(entry.userName, entry);
+            for (Array<Entry> view : views) {
+                view.add(entry);
+            }
+        }
+
+        for (int i = 0; i < dirty.length; i++) {
+            dirty[i] = true;
+        }
+    }
+
+    public void update(User user) {
+        Entry entry = entries.get(user.getUserName());
+        if (entry != null && entry.matches(user)) {
+            return;
+        }
+
+        SortType[] types = SortType.values();
+        if (entry == null) {
+            entry = new Entry(user.getUserName());
+            entry.copyFrom(user);
+            entries.put(entry.userName, entry);
+            for (int i = 0; i < views.length; i++) {
+                if (dirty[i]) {
+                    views[i].add(entry);
+                } else {
+                    insertSorted(views[i], entry, comparatorFor(types[i]));
+                }
+            }
+        } else {
+            for (int i = 0; i < views.length; i++) {
+                if (!dirty[i]) {
+                    views[i].removeIndex(indexOf(views[i], entry, comparatorFor(types[i])));
+                }
+            }
+            entry.copyFrom(user);
+            for (int i = 0; i < views.length; i++) {
+                if (!dirty[i]) {
+                    insertSorted(views[i], entry, comparatorFor(types[i]));
+                }
+            }
+        }
+    }
+
+    public void remove(String userName) {
+        Entry entry = entries.remove(userName);
+        if (entry == null) {
+            return;
+        }
+
+        SortType[] types = SortType.values();
+        for (int i = 0; i < views.length; i++) {
+            if (dirty[i]) {
+                views[i].removeValue(entry, true);
+            } else {
+                views[i].removeIndex(indexOf(views[i], entry, comparatorFor(types[i])));
+            }
+        }
+    }
+
+    public Entry get(SortType sortType, boolean ascending, int rank) {
+        Array<Entry> view = getView(sortType);
+        return view.get(ascending ? view.size - 1 - rank : rank);
+    }
+
+    public Array<Entry> getView(SortType sortType) {
+        int index = sortType.ordinal();
+        if (dirty[index]) {
+            views[index].sort(comparatorFor(sortType));
+            dirty[index] = false;
+        }
+        return views[index];
+    }
+
+    public int size() {
+        return entries.size;
+    }
+
+    public int getRank(String userName, SortType sortType) {
+        Entry entry = entries.get(userName);
+        if (entry == null) {
+            return -1;
+        }
+        return indexOf(getView(sortType), entry, comparatorFor(sortType)) + 1;
+    }
+
+    private static Comparator<Entry> comparatorFor(SortType sortType) {
+        switch (sortType) {
+            case USERNAME:
+                return BY_NAME_DESCENDING;
+            case KILLS:
+                return BY_KILLS;
+            case SURVIVAL_TIME:
+                return BY_SURVIVAL_TIME;
+            case SCORE:
+            default:
+                return BY_SCORE;
+        }
+    }
+
+    private static int lowerBound(Array<Entry> view, Entry entry, Comparator<Entry> comparator) {
+        int low = 0;
+        int high = view.size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(view.items[mid], entry) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int indexOf(Array<Entry> view, Entry entry, Comparator<Entry> comparator) {
+        int index = lowerBound(view, entry, comparator);
+        if (index < view.size && view.items[index] == entry) {
+            return index;
+        }
+        return view.indexOf(entry, true);
+    }
+
+    private static void insertSorted(Array<Entry> view, Entry entry, Comparator<Entry> comparator) {
+        view.insert(lowerBound(view, entry, comparator), entry);
+    }
+}
@@ -1,32 +1,60 @@
 package com.tilldawn.Models;
 
 import com.badlogic.gdx.Gdx;
+import com.tilldawn.Models.SaveDatas.CachingUserStorage;
 import com.tilldawn.Models.SaveDatas.JsonUserStorage;
 import com.tilldawn.Models.SaveDatas.SqliteUserStorage;
 import com.tilldawn.Models.SaveDatas.UserDataStorage;
+import com.tilldawn.Models.SaveDatas.WriteBehindUserStorage;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 public class SaveData {
+    private static final long FLUSH_INTERVAL_MILLIS = 2000;
+    private static final int USER_CACHE_SIZE = 64;
+
     private static SaveData instance;
     private static User currentUser;
-    private UserDataStorage jsonStorage;
-    private UserDataStorage sqliteStorage;
-    private boolean useSqlite;
+    private WriteBehindUserStorage jsonWriter;
+    private WriteBehindUserStorage sqliteWriter;
+    private CachingUserStorage jsonStorage;
+    private CachingUserStorage sqliteStorage;
+    private SqliteUserStorage sqliteDatabase;
+    private volatile boolean useSqlite;
+    private volatile boolean migrating;
+    private volatile float migrationProgress = 1f;
+    private final ScheduledExecutorService writer;
 
     private SaveData() {
+        writer = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "SaveData-writer");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
 
-        jsonStorage = new JsonUserStorage();
+        jsonWriter = new WriteBehindUserStorage(new JsonUserStorage());
+        jsonStorage = new CachingUserStorage(jsonWriter, USER_CACHE_SIZE);
 
 
         try {
-            sqliteStorage = new SqliteUserStorage();
+            sqliteDatabase = new SqliteUserStorage();
+            sqliteWriter = new WriteBehindUserStorage(sqliteDatabase);
+            sqliteStorage = new CachingUserStorage(sqliteWriter, USER_CACHE_SIZE);
             useSqlite = true;
 
 
-            if (sqliteStorage.loadAllUsers().isEmpty() && !jsonStorage.loadAllUsers().isEmpty()) {
-                migrateFromJsonToSqlite();
+            if (sqliteStorage.isEmpty() && !jsonStorage.isEmpty()) {
+                startMigration();
             }
 
             Gdx.app.log("SaveData", "SQLite storage initialized successfully");
@@ -34,16 +62,66 @@ public class SaveData {
             useSqlite = false;
             Gdx.app.error("SaveData", "Failed to initialize SQLite, falling back to JSON storage", e);
         }
+
+
+        writer.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                flush();
+            }
+        }, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public void flush() {
+        if (sqliteWriter != null) {
+            sqliteWriter.flush();
+        }
+        jsonWriter.flush();
+    }
+
+    private void startMigration() {
+        migrating = true;
+        migrationProgress = 0f;
+        writer.execute(new Runnable() {
+            @Override
+            public void run() {
+                migrateFromJsonToSqlite();
+            }
+        });
     }
 
     private void migrateFromJsonToSqlite() {
-        List<User> jsonUsers = jsonStorage.loadAllUsers();
+        final List<User> jsonUsers = jsonStorage.loadAllUsers();
+        final boolean[] imported = new boolean[1];
+
+        sqliteWriter.runExclusive(new Runnable() {
+            @Override
+            public void run() {
+                imported[0] = sqliteDatabase.importUsers(jsonUsers, new SqliteUserStorage.ImportListener() {
+                    @Override
+                    public void onProgress(int importedUsers, int total) {
+                        migrationProgress = (float) importedUsers / total;
+                    }
+                });
+            }
+        });
 
-        for (User user : jsonUsers) {
-            sqliteStorage.saveUser(user);
+        if (imported[0]) {
+            Gdx.app.log("SaveData", "Migrated " + jsonUsers.size() + " users from JSON to SQLite");
+        } else {
+            useSqlite = false;
+            Gdx.app.error("SaveData", "Migration to SQLite failed, staying on JSON storage");
         }
+        migrationProgress = 1f;
+        migrating = false;
+    }
+
+    public boolean isMigrating() {
+        return migrating;
+    }
 
-        Gdx.app.log("SaveData", "Migrated " + jsonUsers.size() + " users from JSON to SQLite");
+    public float getMigrationProgress() {
+        return migrationProgress;
     }
 
     public static SaveData getInstance() {
@@ -75,7 +153,19 @@ public class SaveData {
     }
 
     private UserDataStorage getActiveStorage() {
-        return useSqlite ? sqliteStorage : jsonStorage;
+        return useSqlite && !migrating ? sqliteStorage : jsonStorage;
+    }
+
+    private UserDataStorage getMirrorStorage() {
+        return migrating ? sqliteStorage : jsonStorage;
+    }
+
+    private void deleteFromMirror(String username) {
+        if (migrating) {
+            sqliteStorage.applyChanges(Collections.<User>emptyList(), Collections.singletonList(username));
+        } else {
+            jsonStorage.deleteUser(username);
+        }
     }
 
     public boolean addUser(String username, String password, String securityQuestion, String securityAnswer) {
@@ -88,7 +178,7 @@ public class SaveData {
 
 
         if (useSqlite) {
-            jsonStorage.saveUser(user);
+            getMirrorStorage().saveUser(user);
         }
 
         return true;
@@ -138,7 +228,7 @@ public class SaveData {
 
 
             if (useSqlite) {
-                jsonStorage.saveUser(user);
+                getMirrorStorage().saveUser(user);
             }
 
             return true;
@@ -154,7 +244,7 @@ public class SaveData {
 
 
             if (useSqlite) {
-                jsonStorage.saveUser(user);
+                getMirrorStorage().saveUser(user);
             }
 
             return true;
@@ -172,7 +262,7 @@ public class SaveData {
 
 
             if (useSqlite) {
-                jsonStorage.saveUser(user);
+                getMirrorStorage().saveUser(user);
             }
 
             return true;
@@ -188,14 +278,23 @@ public class SaveData {
         return getActiveStorage().loadAllUsers();
     }
 
+    public List<User> getLeaderboardPage(Leaderboard.SortType sortType, boolean ascending, int offset, int limit) {
+        return getActiveStorage().loadTopUsers(sortType, ascending, offset, limit);
+    }
+
+    public int getLeaderboardRank(String username, Leaderboard.SortType sortType) {
+        return getActiveStorage().getUserRank(username, sortType);
+    }
+
     public boolean removeUser(String username) {
         boolean result = getActiveStorage().deleteUser(username);
 
 
         if (result && useSqlite) {
-            jsonStorage.deleteUser(username);
+            deleteFromMirror(username);
         }
 
+
         return result;
     }
 
@@ -205,7 +304,7 @@ public class SaveData {
 
 
             if (useSqlite) {
-                jsonStorage.saveUser(user);
+                getMirrorStorage().saveUser(user);
             }
 
             return true;
@@ -218,7 +317,7 @@ public class SaveData {
     }
 
     public int getUserCount() {
-        return getAllUsers().size();
+        return getActiveStorage().countUsers();
     }
 
     public boolean saveUserAvatar(String username, String avatarPath) {
@@ -232,7 +331,7 @@ public class SaveData {
 
 
         if (useSqlite) {
-            jsonStorage.saveUser(user);
+            getMirrorStorage().saveUser(user);
         }
 
         return true;
@@ -289,10 +388,11 @@ public class SaveData {
 
 
         if (useSqlite) {
-            jsonStorage.deleteUser(oldUsername);
-            jsonStorage.saveUser(newUser);
+            deleteFromMirror(oldUsername);
+            getMirrorStorage().saveUser(newUser);
         }
 
+
         return true;
     }
 
@@ -302,8 +402,20 @@ public class SaveData {
     }
 
     public void dispose() {
-        if (sqliteStorage instanceof SqliteUserStorage) {
-            ((SqliteUserStorage) sqliteStorage).close();
+        writer.shutdown();
+        try {
+            writer.awaitTermination(FLUSH_INTERVAL_MILLIS * 5, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+
+        CachingUserStorage activeCache = useSqlite ? sqliteStorage : jsonStorage;
+        Gdx.app.log("SaveData", "User cache hits=" + activeCache.getHitCount()
+            + " misses=" + activeCache.getMissCount());
+
+        if (sqliteDatabase != null) {
+            sqliteDatabase.close();
         }
     }
 }
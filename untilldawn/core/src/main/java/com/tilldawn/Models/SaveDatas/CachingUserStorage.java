@@ -0,0 +1,115 @@
+package com.tilldawn.Models.SaveDatas;
+
+import com.tilldawn.Models.Leaderboard;
+import com.tilldawn.Models.User;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CachingUserStorage implements UserDataStorage {
+    private final UserDataStorage delegate;
+    private final Map<String, User> cache;
+
+    private long hitCount;
+    private long missCount;
+
+    public CachingUserStorage(UserDataStorage delegate, final int maxEntries) {
+        this.delegate = delegate;
+        this.cache = new LinkedHashMap<String, User>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, User> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized void saveUser(User user) {
+        delegate.saveUser(user);
+        cache.put(user.getUserName(), new User(user));
+    }
+
+    @Override
+    public synchronized User loadUser(String username) {
+        User cached = cache.get(username);
+        if (cached != null) {
+            hitCount++;
+            return new User(cached);
+        }
+
+        missCount++;
+        User user = delegate.loadUser(username);
+        if (user != null) {
+            cache.put(username, new User(user));
+        }
+        return user;
+    }
+
+    @Override
+    public List<User> loadAllUsers() {
+        return delegate.loadAllUsers();
+    }
+
+    @Override
+    public synchronized boolean deleteUser(String username) {
+        cache.remove(username);
+        return delegate.deleteUser(username);
+    }
+
+    @Override
+    public synchronized boolean userExists(String username) {
+        if (cache.containsKey(username)) {
+            hitCount++;
+            return true;
+        }
+
+        missCount++;
+        return delegate.userExists(username);
+    }
+
+    @Override
+    public synchronized boolean applyChanges(Collection<User> savedUsers, Collection<String> deletedUsernames) {
+        boolean applied = delegate.applyChanges(savedUsers, deletedUsernames);
+        for (String username : deletedUsernames) {
+            cache.remove(username);
+        }
+        for (User user : savedUsers) {
+            if (applied) {
+                cache.put(user.getUserName(), new User(user));
+            } else {
+                cache.remove(user.getUserName());
+            }
+        }
+        return applied;
+    }
+
+    @Override
+    public int countUsers() {
+        return delegate.countUsers();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public List<User> loadTopUsers(Leaderboard.SortType sortType, boolean ascending, int offset, int limit) {
+        return delegate.loadTopUsers(sortType, ascending, offset, limit);
+    }
+
+    @Override
+    public int getUserRank(String username, Leaderboard.SortType sortType) {
+        return delegate.getUserRank(username, sortType);
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+}
@@ -3,20 +3,32 @@ package com.tilldawn.Models.SaveDatas;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Json;
-import com.badlogic.gdx.utils.JsonValue;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonWriter.OutputType;
+import com.badlogic.gdx.utils.SerializationException;
+import com.tilldawn.Models.Leaderboard;
 import com.tilldawn.Models.User;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 public class JsonUserStorage implements UserDataStorage {
     private static final String SAVE_FILE = "data/users.json";
+    private static final String JOURNAL_FILE = "data/users.journal";
+    private static final int MIN_COMPACT_ENTRIES = 256;
     private Map<String, User> users;
+    private int journalEntries;
+    private boolean journalDamaged;
     private final Json json;
+    private final Leaderboard leaderboard = new Leaderboard();
 
 
     private static class UserList {
@@ -28,89 +40,103 @@ public class JsonUserStorage implements UserDataStorage {
         json = new Json();
         json.setOutputType(OutputType.json);
         loadUsersFromFile();
+        leaderboard.rebuild(new ArrayList<>(users.values()));
+
+        if (journalDamaged || journalEntries >= compactThreshold()) {
+            compact();
+        }
     }
 
     private void loadUsersFromFile() {
+        UserJsonReader reader = new UserJsonReader(users);
         FileHandle file = Gdx.files.local(SAVE_FILE);
 
         if (file.exists()) {
             try {
-                JsonValue root = new JsonReader().parse(file);
-                JsonValue userArray = root.get("users");
-
-                for (JsonValue userValue = userArray.child; userValue != null; userValue = userValue.next) {
-                    String username = userValue.getString("userName");
-                    String password = userValue.getString("password");
-
-                    String securityQuestion = "";
-                    String securityAnswer = "";
-                    if (userValue.has("securityQuestion") && userValue.has("securityAnswer")) {
-                        securityQuestion = userValue.getString("securityQuestion");
-                        securityAnswer = userValue.getString("securityAnswer");
-                    }
-
-                    String avatarPath = "";
-                    if (userValue.has("avatarPath")) {
-                        avatarPath = userValue.getString("avatarPath");
-                    }
-
-                    String lastWeaponUsed = "";
-                    int lastGameTime = 0;
-                    String lastHeroUsed = "";
-                    int highScore = 0;
-                    int totalGamesPlayed = 0;
-                    int totalKills = 0;
-                    float longestSurvivalTime = 0;
-                    float totalSurvivalTime = 0;
-
-                    if (userValue.has("lastWeaponUsed")) {
-                        lastWeaponUsed = userValue.getString("lastWeaponUsed");
-                    }
-                    if (userValue.has("lastGameTime")) {
-                        lastGameTime = userValue.getInt("lastGameTime");
-                    }
-                    if (userValue.has("lastHeroUsed")) {
-                        lastHeroUsed = userValue.getString("lastHeroUsed");
-                    }
-                    if (userValue.has("highScore")) {
-                        highScore = userValue.getInt("highScore");
-                    }
-                    if (userValue.has("totalGamesPlayed")) {
-                        totalGamesPlayed = userValue.getInt("totalGamesPlayed");
-                    }
-                    if (userValue.has("totalKills")) {
-                        totalKills = userValue.getInt("totalKills");
-                    }
-                    if (userValue.has("longestSurvivalTime")) {
-                        longestSurvivalTime = userValue.getFloat("longestSurvivalTime");
-                    }
-                    if (userValue.has("totalSurvivalTime")) {
-                        totalSurvivalTime = userValue.getFloat("totalSurvivalTime");
-                    }
-
-                    User user = new User(username, password, securityQuestion, securityAnswer, avatarPath);
-                    user.setLastWeaponUsed(lastWeaponUsed);
-                    user.setLastGameTime(lastGameTime);
-                    user.setLastHeroUsed(lastHeroUsed);
-                    user.setHighScore(highScore);
-                    user.setTotalGamesPlayed(totalGamesPlayed);
-                    user.setTotalKills(totalKills);
-                    user.updateLongestSurvivalTime(longestSurvivalTime);
-                    user.addSurvivalTime(totalSurvivalTime);
-
-                    users.put(username, user);
-                }
-
+                reader.parse(file);
+                reader.endDocument();
                 Gdx.app.log("JsonUserStorage", "Loaded " + users.size() + " users from JSON");
             } catch (Exception e) {
                 Gdx.app.error("JsonUserStorage", "Error loading users from JSON", e);
             }
         }
+
+        replayJournal(reader);
+    }
+
+    private void replayJournal(UserJsonReader reader) {
+        FileHandle journal = Gdx.files.local(JOURNAL_FILE);
+        if (!journal.exists()) {
+            return;
+        }
+
+        try (BufferedReader in = journal.reader(8192, "UTF-8")) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+
+                try {
+                    reader.parse(line);
+                    journalDamaged = !reader.endDocument();
+                } catch (SerializationException e) {
+                    reader.endDocument();
+                    journalDamaged = true;
+                }
+
+                if (journalDamaged) {
+                    Gdx.app.error("JsonUserStorage", "Ignoring damaged journal entry " + (journalEntries + 1));
+                    break;
+                }
+                journalEntries++;
+            }
+
+            Gdx.app.log("JsonUserStorage", "Replayed " + journalEntries + " journal entries");
+        } catch (IOException e) {
+            Gdx.app.error("JsonUserStorage", "Error reading user journal", e);
+        }
+    }
+
+    private String putEntry(User user) {
+        return "{\"op\":\"put\",\"user\":" + json.toJson(user, User.class) + "}\n";
     }
 
-    private void saveUsersToFile() {
+    private String deleteEntry(String username) {
+        return "{\"op\":\"delete\",\"userName\":" + json.toJson(username, String.class) + "}\n";
+    }
+
+    private boolean appendToJournal(String entries, int count) {
+        boolean written = false;
+        try {
+            FileHandle journal = Gdx.files.local(JOURNAL_FILE);
+
+
+            if (!journal.parent().exists()) {
+                journal.parent().mkdirs();
+            }
+
+            journal.writeString(entries, true, "UTF-8");
+            journalEntries += count;
+            written = true;
+        } catch (Exception e) {
+            Gdx.app.error("JsonUserStorage", "Error appending to user journal", e);
+        }
+
+        if (journalEntries >= compactThreshold()) {
+            compact();
+        }
+        return written;
+    }
+
+    private int compactThreshold() {
+        return Math.max(MIN_COMPACT_ENTRIES, users.size());
+    }
+
+    private void compact() {
         try {
             FileHandle file = Gdx.files.local(SAVE_FILE);
+            FileHandle temp = Gdx.files.local(SAVE_FILE + ".tmp");
 
 
             if (!file.parent().exists()) {
@@ -122,19 +148,32 @@ public class JsonUserStorage implements UserDataStorage {
             userList.users.addAll(users.values());
 
 
-            String jsonString = json.prettyPrint(userList);
-            file.writeString(jsonString, false);
+            temp.writeString(json.prettyPrint(userList), false, "UTF-8");
+            moveAtomically(temp.file(), file.file());
+            Gdx.files.local(JOURNAL_FILE).delete();
 
-            Gdx.app.log("JsonUserStorage", "Saved " + users.size() + " users to JSON");
+            Gdx.app.log("JsonUserStorage", "Compacted " + journalEntries + " journal entries into " + users.size() + " users");
+            journalEntries = 0;
+            journalDamaged = false;
         } catch (Exception e) {
-            Gdx.app.error("JsonUserStorage", "Error saving users to JSON", e);
+            Gdx.app.error("JsonUserStorage", "Error compacting users to JSON", e);
+        }
+    }
+
+    private static void moveAtomically(File source, File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
         }
     }
 
     @Override
     public void saveUser(User user) {
         users.put(user.getUserName(), user);
-        saveUsersToFile();
+        leaderboard.update(user);
+        appendToJournal(putEntry(user), 1);
     }
 
     @Override
@@ -150,7 +189,8 @@ public class JsonUserStorage implements UserDataStorage {
     @Override
     public boolean deleteUser(String username) {
         if (users.remove(username) != null) {
-            saveUsersToFile();
+            leaderboard.remove(username);
+            appendToJournal(deleteEntry(username), 1);
             return true;
         }
         return false;
@@ -160,4 +200,51 @@ public class JsonUserStorage implements UserDataStorage {
     public boolean userExists(String username) {
         return users.containsKey(username);
     }
+
+    @Override
+    public boolean applyChanges(Collection<User> savedUsers, Collection<String> deletedUsernames) {
+        StringBuilder entries = new StringBuilder();
+        int count = 0;
+
+        for (String username : deletedUsernames) {
+            if (users.remove(username) != null) {
+                leaderboard.remove(username);
+            }
+            entries.append(deleteEntry(username));
+            count++;
+        }
+        for (User user : savedUsers) {
+            users.put(user.getUserName(), user);
+            leaderboard.update(user);
+            entries.append(putEntry(user));
+            count++;
+        }
+
+        return count == 0 || appendToJournal(entries.toString(), count);
+    }
+
+    @Override
+    public int countUsers() {
+        return users.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return users.isEmpty();
+    }
+
+    @Override
+    public List<User> loadTopUsers(Leaderboard.SortType sortType, boolean ascending, int offset, int limit) {
+        int end = Math.min(leaderboard.size(), offset + limit);
+        List<User> userList = new ArrayList<>(Math.max(0, end - offset));
+        for (int rank = offset; rank < end; rank++) {
+            userList.add(users.get(leaderboard.get(sortType, ascending, rank).getUserName()));
+        }
+        return userList;
+    }
+
+    @Override
+    public int getUserRank(String username, Leaderboard.SortType sortType) {
+        return leaderboard.getRank(username, sortType);
+    }
 }
@@ -1,33 +1,94 @@
 package com.tilldawn.Models.SaveDatas;
 
 import com.badlogic.gdx.Gdx;
+import com.tilldawn.Models.Leaderboard;
 import com.tilldawn.Models.User;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class SqliteUserStorage implements UserDataStorage {
     private static final String DB_NAME = "data/tilldawn.db";
+    private static final String USER_COLUMNS =
+        "(username, password, security_question, security_answer, avatar_path, " +
+            "last_weapon_used, last_game_time, last_hero_used, high_score, total_games_played, " +
+            "total_kills, longest_survival_time, total_survival_time)";
+    private static final String USER_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int USER_ROW_PARAMETERS = 13;
+    private static final int ROWS_PER_INSERT = 50;
+    private static final String UPSERT_SQL =
+        "INSERT INTO users " + USER_COLUMNS + " VALUES " + USER_ROW + " " +
+            "ON CONFLICT(username) DO UPDATE SET password = excluded.password, " +
+            "security_question = excluded.security_question, security_answer = excluded.security_answer, " +
+            "avatar_path = excluded.avatar_path, last_weapon_used = excluded.last_weapon_used, " +
+            "last_game_time = excluded.last_game_time, last_hero_used = excluded.last_hero_used, " +
+            "high_score = excluded.high_score, total_games_played = excluded.total_games_played, " +
+            "total_kills = excluded.total_kills, longest_survival_time = excluded.longest_survival_time, " +
+            "total_survival_time = excluded.total_survival_time";
+
+    public interface ImportListener {
+        void onProgress(int imported, int total);
+    }
+
     private Connection connection;
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
 
     public SqliteUserStorage() {
-        try {
+        this(DB_NAME);
+    }
 
-            Class.forName("org.sqlite.JDBC");
+    public SqliteUserStorage(String databasePath) {
+        this(openConnection(databasePath));
+    }
 
+    public SqliteUserStorage(Connection connection) {
+        this.connection = connection;
+        if (connection == null) return;
 
-            connection = DriverManager.getConnection("jdbc:sqlite:" + DB_NAME);
+        try {
+            configureConnection();
 
 
             createTablesIfNotExists();
 
             Gdx.app.log("SqliteUserStorage", "SQLite database initialized successfully");
-        } catch (ClassNotFoundException | SQLException e) {
+        } catch (SQLException e) {
             Gdx.app.error("SqliteUserStorage", "Error initializing SQLite database", e);
         }
     }
 
+    private static Connection openConnection(String databasePath) {
+        try {
+
+            Class.forName("org.sqlite.JDBC");
+
+            return DriverManager.getConnection("jdbc:sqlite:" + databasePath);
+        } catch (ClassNotFoundException | SQLException e) {
+            Gdx.app.error("SqliteUserStorage", "Error opening SQLite database", e);
+            return null;
+        }
+    }
+
+    private void configureConnection() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA journal_mode=WAL");
+            statement.execute("PRAGMA synchronous=NORMAL");
+        }
+    }
+
+    private PreparedStatement prepare(String sql) throws SQLException {
+        PreparedStatement statement = statements.get(sql);
+        if (statement == null) {
+            statement = connection.prepareStatement(sql);
+            statements.put(sql, statement);
+        }
+        return statement;
+    }
+
     private void createTablesIfNotExists() {
         try (Statement statement = connection.createStatement()) {
 
@@ -49,6 +110,13 @@ public class SqliteUserStorage implements UserDataStorage {
                     ");"
             );
 
+            statement.executeUpdate(
+                "CREATE INDEX IF NOT EXISTS idx_users_high_score ON users (high_score DESC, username)");
+            statement.executeUpdate(
+                "CREATE INDEX IF NOT EXISTS idx_users_total_kills ON users (total_kills DESC, username)");
+            statement.executeUpdate(
+                "CREATE INDEX IF NOT EXISTS idx_users_longest_survival_time ON users (longest_survival_time DESC, username)");
+
             Gdx.app.log("SqliteUserStorage", "Database tables created/verified");
         } catch (SQLException e) {
             Gdx.app.error("SqliteUserStorage", "Error creating database tables", e);
@@ -58,96 +126,92 @@ public class SqliteUserStorage implements UserDataStorage {
     @Override
     public void saveUser(User user) {
         try {
+            upsertUser(user);
+        } catch (SQLException e) {
+            Gdx.app.error("SqliteUserStorage", "Error saving user to database", e);
+        }
+    }
+
+    private void upsertUser(User user) throws SQLException {
+        PreparedStatement pstmt = prepare(UPSERT_SQL);
+        bindUser(pstmt, 0, user);
+        pstmt.executeUpdate();
+        Gdx.app.log("SqliteUserStorage", "User " + user.getUserName() + " saved to database");
+    }
 
-            if (userExists(user.getUserName())) {
+    private static void bindUser(PreparedStatement pstmt, int offset, User user) throws SQLException {
+        pstmt.setString(offset + 1, user.getUserName());
+        pstmt.setString(offset + 2, user.getPassword());
+        pstmt.setString(offset + 3, user.getSecurityQuestion());
+        pstmt.setString(offset + 4, user.getSecurityAnswer());
+        pstmt.setString(offset + 5, user.getAvatarPath());
+        pstmt.setString(offset + 6, user.getLastWeaponUsed());
+        pstmt.setInt(offset + 7, user.getLastGameTime());
+        pstmt.setString(offset + 8, user.getLastHeroUsed());
+        pstmt.setInt(offset + 9, user.getHighScore());
+        pstmt.setInt(offset + 10, user.getTotalGamesPlayed());
+        pstmt.setInt(offset + 11, user.getTotalKills());
+        pstmt.setFloat(offset + 12, user.getLongestSurvivalTime());
+        pstmt.setFloat(offset + 13, user.getTotalSurvivalTime());
+    }
 
-                updateUser(user);
-            } else {
+    public boolean importUsers(List<User> users, ImportListener listener) {
+        int total = users.size();
 
-                insertUser(user);
+        try {
+            connection.setAutoCommit(false);
+            try {
+                for (int start = 0; start < total; start += ROWS_PER_INSERT) {
+                    int rows = Math.min(ROWS_PER_INSERT, total - start);
+                    PreparedStatement pstmt = prepare(insertIgnoreSql(rows));
+                    for (int i = 0; i < rows; i++) {
+                        bindUser(pstmt, i * USER_ROW_PARAMETERS, users.get(start + i));
+                    }
+                    pstmt.executeUpdate();
+
+                    if (listener != null) {
+                        listener.onProgress(start + rows, total);
+                    }
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
             }
+
+            Gdx.app.log("SqliteUserStorage", "Imported " + total + " users into database");
+            return true;
         } catch (SQLException e) {
-            Gdx.app.error("SqliteUserStorage", "Error saving user to database", e);
+            Gdx.app.error("SqliteUserStorage", "Error importing users into database", e);
+            return false;
         }
     }
 
-    private void insertUser(User user) throws SQLException {
-        String sql = "INSERT INTO users (username, password, security_question, security_answer, avatar_path, " +
-            "last_weapon_used, last_game_time, last_hero_used, high_score, total_games_played, " +
-            "total_kills, longest_survival_time, total_survival_time) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setString(1, user.getUserName());
-            pstmt.setString(2, user.getPassword());
-            pstmt.setString(3, user.getSecurityQuestion());
-            pstmt.setString(4, user.getSecurityAnswer());
-            pstmt.setString(5, user.getAvatarPath());
-            pstmt.setString(6, user.getLastWeaponUsed());
-            pstmt.setInt(7, user.getLastGameTime());
-            pstmt.setString(8, user.getLastHeroUsed());
-            pstmt.setInt(9, user.getHighScore());
-            pstmt.setInt(10, user.getTotalGamesPlayed());
-            pstmt.setInt(11, user.getTotalKills());
-            pstmt.setFloat(12, user.getLongestSurvivalTime());
-            pstmt.setFloat(13, user.getTotalSurvivalTime());
-
-            pstmt.executeUpdate();
-            Gdx.app.log("SqliteUserStorage", "User " + user.getUserName() + " inserted into database");
-        }
-    }
-
-    private void updateUser(User user) throws SQLException {
-        String sql = "UPDATE users SET password = ?, security_question = ?, security_answer = ?, avatar_path = ?, " +
-            "last_weapon_used = ?, last_game_time = ?, last_hero_used = ?, high_score = ?, total_games_played = ?, " +
-            "total_kills = ?, longest_survival_time = ?, total_survival_time = ? WHERE username = ?";
-
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setString(1, user.getPassword());
-            pstmt.setString(2, user.getSecurityQuestion());
-            pstmt.setString(3, user.getSecurityAnswer());
-            pstmt.setString(4, user.getAvatarPath());
-            pstmt.setString(5, user.getLastWeaponUsed());
-            pstmt.setInt(6, user.getLastGameTime());
-            pstmt.setString(7, user.getLastHeroUsed());
-            pstmt.setInt(8, user.getHighScore());
-            pstmt.setInt(9, user.getTotalGamesPlayed());
-            pstmt.setInt(10, user.getTotalKills());
-            pstmt.setFloat(11, user.getLongestSurvivalTime());
-            pstmt.setFloat(12, user.getTotalSurvivalTime());
-            pstmt.setString(13, user.getUserName());
-
-            pstmt.executeUpdate();
-            Gdx.app.log("SqliteUserStorage", "User " + user.getUserName() + " updated in database");
+    private static String insertIgnoreSql(int rows) {
+        StringBuilder sql = new StringBuilder("INSERT OR IGNORE INTO users ")
+            .append(USER_COLUMNS).append(" VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(USER_ROW);
         }
+        return sql.toString();
     }
 
     @Override
     public User loadUser(String username) {
         String sql = "SELECT * FROM users WHERE username = ?";
 
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+        try {
+            PreparedStatement pstmt = prepare(sql);
             pstmt.setString(1, username);
 
             try (ResultSet rs = pstmt.executeQuery()) {
                 if (rs.next()) {
-                    User user = new User(
-                        rs.getString("username"),
-                        rs.getString("password"),
-                        rs.getString("security_question"),
-                        rs.getString("security_answer"),
-                        rs.getString("avatar_path")
-                    );
-
-                    user.setLastWeaponUsed(rs.getString("last_weapon_used"));
-                    user.setLastGameTime(rs.getInt("last_game_time"));
-                    user.setLastHeroUsed(rs.getString("last_hero_used"));
-                    user.setHighScore(rs.getInt("high_score"));
-                    user.setTotalGamesPlayed(rs.getInt("total_games_played"));
-                    user.setTotalKills(rs.getInt("total_kills"));
-                    user.updateLongestSurvivalTime(rs.getFloat("longest_survival_time"));
-                    user.addSurvivalTime(rs.getFloat("total_survival_time"));
-
-                    return user;
+                    return readUser(rs);
                 }
             }
         } catch (SQLException e) {
@@ -162,28 +226,10 @@ public class SqliteUserStorage implements UserDataStorage {
         List<User> userList = new ArrayList<>();
         String sql = "SELECT * FROM users";
 
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (ResultSet rs = prepare(sql).executeQuery()) {
 
             while (rs.next()) {
-                User user = new User(
-                    rs.getString("username"),
-                    rs.getString("password"),
-                    rs.getString("security_question"),
-                    rs.getString("security_answer"),
-                    rs.getString("avatar_path")
-                );
-
-                user.setLastWeaponUsed(rs.getString("last_weapon_used"));
-                user.setLastGameTime(rs.getInt("last_game_time"));
-                user.setLastHeroUsed(rs.getString("last_hero_used"));
-                user.setHighScore(rs.getInt("high_score"));
-                user.setTotalGamesPlayed(rs.getInt("total_games_played"));
-                user.setTotalKills(rs.getInt("total_kills"));
-                user.updateLongestSurvivalTime(rs.getFloat("longest_survival_time"));
-                user.addSurvivalTime(rs.getFloat("total_survival_time"));
-
-                userList.add(user);
+                userList.add(readUser(rs));
             }
 
             Gdx.app.log("SqliteUserStorage", "Loaded " + userList.size() + " users from database");
@@ -194,26 +240,169 @@ public class SqliteUserStorage implements UserDataStorage {
         return userList;
     }
 
+    private User readUser(ResultSet rs) throws SQLException {
+        User user = new User(
+            rs.getString("username"),
+            rs.getString("password"),
+            rs.getString("security_question"),
+            rs.getString("security_answer"),
+            rs.getString("avatar_path")
+        );
+
+        user.setLastWeaponUsed(rs.getString("last_weapon_used"));
+        user.setLastGameTime(rs.getInt("last_game_time"));
+        user.setLastHeroUsed(rs.getString("last_hero_used"));
+        user.setHighScore(rs.getInt("high_score"));
+        user.setTotalGamesPlayed(rs.getInt("total_games_played"));
+        user.setTotalKills(rs.getInt("total_kills"));
+        user.updateLongestSurvivalTime(rs.getFloat("longest_survival_time"));
+        user.addSurvivalTime(rs.getFloat("total_survival_time"));
+        return user;
+    }
+
     @Override
-    public boolean deleteUser(String username) {
-        String sql = "DELETE FROM users WHERE username = ?";
+    public boolean applyChanges(Collection<User> savedUsers, Collection<String> deletedUsernames) {
+        try {
+            connection.setAutoCommit(false);
+            try {
+                for (String username : deletedUsernames) {
+                    deleteRow(username);
+                }
+                for (User user : savedUsers) {
+                    upsertUser(user);
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+            return true;
+        } catch (SQLException e) {
+            Gdx.app.error("SqliteUserStorage", "Error applying batched changes", e);
+            return false;
+        }
+    }
+
+    @Override
+    public int countUsers() {
+        try (ResultSet rs = prepare("SELECT COUNT(*) FROM users").executeQuery()) {
+            return rs.next() ? rs.getInt(1) : 0;
+        } catch (SQLException e) {
+            Gdx.app.error("SqliteUserStorage", "Error counting users", e);
+            return 0;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        try (ResultSet rs = prepare("SELECT 1 FROM users LIMIT 1").executeQuery()) {
+            return !rs.next();
+        } catch (SQLException e) {
+            Gdx.app.error("SqliteUserStorage", "Error checking for users", e);
+            return false;
+        }
+    }
 
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+    @Override
+    public List<User> loadTopUsers(Leaderboard.SortType sortType, boolean ascending, int offset, int limit) {
+        List<User> userList = new ArrayList<>();
+        String sql = "SELECT * FROM users ORDER BY " + orderBy(sortType, ascending) + " LIMIT ? OFFSET ?";
+
+        try {
+            PreparedStatement pstmt = prepare(sql);
+            pstmt.setInt(1, limit);
+            pstmt.setInt(2, offset);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    userList.add(readUser(rs));
+                }
+            }
+        } catch (SQLException e) {
+            Gdx.app.error("SqliteUserStorage", "Error loading leaderboard page", e);
+        }
+
+        return userList;
+    }
+
+    @Override
+    public int getUserRank(String username, Leaderboard.SortType sortType) {
+        if (!userExists(username)) {
+            return -1;
+        }
+
+        String column = sortColumn(sortType);
+        String sql = column == null
+            ? "SELECT COUNT(*) FROM users WHERE username > ?"
+            : "SELECT COUNT(*) FROM users u, (SELECT " + column + " AS value FROM users WHERE username = ?) me " +
+                "WHERE u." + column + " > me.value OR (u." + column + " = me.value AND u.username < ?)";
+
+        try {
+            PreparedStatement pstmt = prepare(sql);
             pstmt.setString(1, username);
+            if (column != null) {
+                pstmt.setString(2, username);
+            }
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) + 1 : -1;
+            }
+        } catch (SQLException e) {
+            Gdx.app.error("SqliteUserStorage", "Error computing user rank", e);
+            return -1;
+        }
+    }
+
+    private static String sortColumn(Leaderboard.SortType sortType) {
+        switch (sortType) {
+            case KILLS:
+                return "total_kills";
+            case SURVIVAL_TIME:
+                return "longest_survival_time";
+            case USERNAME:
+                return null;
+            case SCORE:
+            default:
+                return "high_score";
+        }
+    }
+
+    private static String orderBy(Leaderboard.SortType sortType, boolean ascending) {
+        String column = sortColumn(sortType);
+        if (column == null) {
+            return ascending ? "username ASC" : "username DESC";
+        }
+        return ascending
+            ? column + " ASC, username DESC"
+            : column + " DESC, username ASC";
+    }
 
-            int affectedRows = pstmt.executeUpdate();
-            return affectedRows > 0;
+    @Override
+    public boolean deleteUser(String username) {
+        try {
+            return deleteRow(username);
         } catch (SQLException e) {
             Gdx.app.error("SqliteUserStorage", "Error deleting user from database", e);
             return false;
         }
     }
 
+    private boolean deleteRow(String username) throws SQLException {
+        PreparedStatement pstmt = prepare("DELETE FROM users WHERE username = ?");
+        pstmt.setString(1, username);
+
+        int affectedRows = pstmt.executeUpdate();
+        return affectedRows > 0;
+    }
+
     @Override
     public boolean userExists(String username) {
         String sql = "SELECT 1 FROM users WHERE username = ?";
 
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+        try {
+            PreparedStatement pstmt = prepare(sql);
             pstmt.setString(1, username);
 
             try (ResultSet rs = pstmt.executeQuery()) {
@@ -227,6 +416,11 @@ public class SqliteUserStorage implements UserDataStorage {
 
     public void close() {
         try {
+            for (PreparedStatement statement : statements.values()) {
+                statement.close();
+            }
+            statements.clear();
+
             if (connection != null && !connection.isClosed()) {
                 connection.close();
                 Gdx.app.log("SqliteUserStorage", "Database connection closed");
@@ -1,7 +1,9 @@
 package com.tilldawn.Models.SaveDatas;
 
+import com.tilldawn.Models.Leaderboard;
 import com.tilldawn.Models.User;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface UserDataStorage {
@@ -10,4 +12,9 @@ public interface UserDataStorage {
     List<User> loadAllUsers();
     boolean deleteUser(String username);
     boolean userExists(String username);
+    boolean applyChanges(Collection<User> savedUsers, Collection<String> deletedUsernames);
+    int countUsers();
+    boolean isEmpty();
+    List<User> loadTopUsers(Leaderboard.SortType sortType, boolean ascending, int offset, int limit);
+    int getUserRank(String username, Leaderboard.SortType sortType);
 }
@@ -0,0 +1,199 @@
+package com.tilldawn.Models.SaveDatas;
+
+import com.badlogic.gdx.utils.JsonReader;
+import com.tilldawn.Models.User;
+
+import java.util.Map;
+
+class UserJsonReader extends JsonReader {
+    private final Map<String, User> users;
+
+    private int depth;
+    private int userDepth = -1;
+    private int usersArrayDepth = -1;
+
+    private String operation;
+    private String deletedUserName;
+
+    private String userName;
+    private String password;
+    private String securityQuestion;
+    private String securityAnswer;
+    private String avatarPath;
+    private String lastWeaponUsed;
+    private int lastGameTime;
+    private String lastHeroUsed;
+    private int highScore;
+    private int totalGamesPlayed;
+    private int totalKills;
+    private float longestSurvivalTime;
+    private float totalSurvivalTime;
+
+    UserJsonReader(Map<String, User> users) {
+        this.users = users;
+    }
+
+    boolean endDocument() {
+        boolean complete = depth == 0;
+        depth = 0;
+        userDepth = -1;
+        usersArrayDepth = -1;
+        operation = null;
+        deletedUserName = null;
+        return complete;
+    }
+
+    @Override
+    protected void startObject(String name) {
+        depth++;
+        if (userDepth < 0 && ("user".equals(name) || depth == usersArrayDepth + 1)) {
+            userDepth = depth;
+            resetUser();
+        }
+    }
+
+    @Override
+    protected void startArray(String name) {
+        depth++;
+        if ("users".equals(name) && userDepth < 0) {
+            usersArrayDepth = depth;
+        }
+    }
+
+    @Override
+    protected void pop() {
+        if (depth == userDepth) {
+            userDepth = -1;
+            if (userName != null && password != null) {
+                users.put(userName, buildUser());
+            }
+        } else if (depth == usersArrayDepth) {
+            usersArrayDepth = -1;
+        } else if (depth == 1) {
+            if ("delete".equals(operation) && deletedUserName != null) {
+                users.remove(deletedUserName);
+            }
+            operation = null;
+            deletedUserName = null;
+        }
+        depth--;
+    }
+
+    @Override
+    protected void string(String name, String value) {
+        if (depth == userDepth) {
+            setField(name, value);
+        } else if (depth == 1 && userDepth < 0) {
+            if ("op".equals(name)) {
+                operation = value;
+            } else if ("userName".equals(name)) {
+                deletedUserName = value;
+            }
+        }
+    }
+
+    @Override
+    protected void number(String name, double value, String stringValue) {
+        if (depth == userDepth) {
+            setField(name, value);
+        }
+    }
+
+    @Override
+    protected void number(String name, long value, String stringValue) {
+        if (depth == userDepth) {
+            setField(name, value);
+        }
+    }
+
+    @Override
+    protected void bool(String name, boolean value) {
+    }
+
+    private void resetUser() {
+        userName = null;
+        password = null;
+        securityQuestion = null;
+        securityAnswer = null;
+        avatarPath = "";
+        lastWeaponUsed = "";
+        lastGameTime = 0;
+        lastHeroUsed = "";
+        highScore = 0;
+        totalGamesPlayed = 0;
+        totalKills = 0;
+        longestSurvivalTime = 0;
+        totalSurvivalTime = 0;
+    }
+
+    private void setField(String name, String value) {
+        if (name == null) return;
+
+        switch (name) {
+            case "userName":
+                userName = value;
+                break;
+            case "password":
+                password = value;
+                break;
+            case "securityQuestion":
+                securityQuestion = value;
+                break;
+            case "securityAnswer":
+                securityAnswer = value;
+                break;
+            case "avatarPath":
+                avatarPath = value;
+                break;
+            case "lastWeaponUsed":
+                lastWeaponUsed = value;
+                break;
+            case "lastHeroUsed":
+                lastHeroUsed = value;
+                break;
+        }
+    }
+
+    private void setField(String name, double value) {
+        if (name == null) return;
+
+        switch (name) {
+            case "lastGameTime":
+                lastGameTime = (int) value;
+                break;
+            case "highScore":
+                highScore = (int) value;
+                break;
+            case "totalGamesPlayed":
+                totalGamesPlayed = (int) value;
+                break;
+            case "totalKills":
+                totalKills = (int) value;
+                break;
+            case "longestSurvivalTime":
+                longestSurvivalTime = (float) value;
+                break;
+            case "totalSurvivalTime":
+                totalSurvivalTime = (float) value;
+                break;
+        }
+    }
+
+    private User buildUser() {
+        boolean hasSecurity = securityQuestion != null && securityAnswer != null;
+
+        User user = new User(userName, password,
+            hasSecurity ? securityQuestion : "",
+            hasSecurity ? securityAnswer : "",
+            avatarPath);
+        user.setLastWeaponUsed(lastWeaponUsed);
+        user.setLastGameTime(lastGameTime);
+        user.setLastHeroUsed(lastHeroUsed);
+        user.setHighScore(highScore);
+        user.setTotalGamesPlayed(totalGamesPlayed);
+        user.setTotalKills(totalKills);
+        user.updateLongestSurvivalTime(longestSurvivalTime);
+        user.addSurvivalTime(totalSurvivalTime);
+        return user;
+    }
+}
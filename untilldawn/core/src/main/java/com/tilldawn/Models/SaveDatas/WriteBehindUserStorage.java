@@ -0,0 +1,234 @@
+package com.tilldawn.Models.SaveDatas;
+
+import com.badlogic.gdx.Gdx;
+import com.tilldawn.Models.Leaderboard;
+import com.tilldawn.Models.User;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class WriteBehindUserStorage implements UserDataStorage {
+    private final UserDataStorage delegate;
+    private final Object flushLock = new Object();
+
+    private final Map<String, User> pendingSaves = new LinkedHashMap<>();
+    private final Set<String> pendingDeletes = new LinkedHashSet<>();
+    private final Map<String, User> inFlightSaves = new LinkedHashMap<>();
+    private final Set<String> inFlightDeletes = new LinkedHashSet<>();
+    private final Set<String> knownUsers = new HashSet<>();
+
+    public WriteBehindUserStorage(UserDataStorage delegate) {
+        this.delegate = delegate;
+    }
+
+    public UserDataStorage getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public void saveUser(User user) {
+        synchronized (this) {
+            pendingDeletes.remove(user.getUserName());
+            pendingSaves.put(user.getUserName(), new User(user));
+            knownUsers.add(user.getUserName());
+        }
+    }
+
+    @Override
+    public User loadUser(String username) {
+        synchronized (this) {
+            if (pendingDeletes.contains(username)) {
+                return null;
+            }
+            User pending = pendingSaves.get(username);
+            if (pending != null) {
+                return new User(pending);
+            }
+            if (inFlightDeletes.contains(username)) {
+                return null;
+            }
+            User inFlight = inFlightSaves.get(username);
+            if (inFlight != null) {
+                return new User(inFlight);
+            }
+        }
+
+        synchronized (flushLock) {
+            User user = delegate.loadUser(username);
+            if (user == null) {
+                return null;
+            }
+
+            synchronized (this) {
+                knownUsers.add(username);
+            }
+            return new User(user);
+        }
+    }
+
+    @Override
+    public List<User> loadAllUsers() {
+        flush();
+        synchronized (flushLock) {
+            List<User> users = delegate.loadAllUsers();
+            List<User> copies = new ArrayList<>(users.size());
+            for (User user : users) {
+                copies.add(new User(user));
+            }
+            return copies;
+        }
+    }
+
+    @Override
+    public boolean deleteUser(String username) {
+        if (!userExists(username)) {
+            return false;
+        }
+
+        queueDelete(username);
+        return true;
+    }
+
+    private synchronized void queueDelete(String username) {
+        pendingSaves.remove(username);
+        pendingDeletes.add(username);
+        knownUsers.remove(username);
+    }
+
+    @Override
+    public boolean userExists(String username) {
+        synchronized (this) {
+            if (pendingDeletes.contains(username)) {
+                return false;
+            }
+            if (knownUsers.contains(username)) {
+                return true;
+            }
+            if (inFlightDeletes.contains(username)) {
+                return false;
+            }
+        }
+
+        synchronized (flushLock) {
+            boolean exists = delegate.userExists(username);
+            synchronized (this) {
+                if (exists && !pendingDeletes.contains(username)) {
+                    knownUsers.add(username);
+                }
+            }
+            return exists;
+        }
+    }
+
+    @Override
+    public boolean applyChanges(Collection<User> savedUsers, Collection<String> deletedUsernames) {
+        for (String username : deletedUsernames) {
+            queueDelete(username);
+        }
+        for (User user : savedUsers) {
+            saveUser(user);
+        }
+        return true;
+    }
+
+    @Override
+    public int countUsers() {
+        flush();
+        synchronized (flushLock) {
+            return delegate.countUsers();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        synchronized (this) {
+            if (!pendingSaves.isEmpty()) {
+                return false;
+            }
+        }
+
+        flush();
+        synchronized (flushLock) {
+            return delegate.isEmpty();
+        }
+    }
+
+    @Override
+    public List<User> loadTopUsers(Leaderboard.SortType sortType, boolean ascending, int offset, int limit) {
+        flush();
+        synchronized (flushLock) {
+            return delegate.loadTopUsers(sortType, ascending, offset, limit);
+        }
+    }
+
+    @Override
+    public int getUserRank(String username, Leaderboard.SortType sortType) {
+        flush();
+        synchronized (flushLock) {
+            return delegate.getUserRank(username, sortType);
+        }
+    }
+
+    public void runExclusive(Runnable task) {
+        synchronized (flushLock) {
+            task.run();
+        }
+    }
+
+    private void requeueInFlight() {
+        for (Map.Entry<String, User> entry : inFlightSaves.entrySet()) {
+            String username = entry.getKey();
+            if (!pendingSaves.containsKey(username) && !pendingDeletes.contains(username)) {
+                pendingSaves.put(username, entry.getValue());
+            }
+        }
+        for (String username : inFlightDeletes) {
+            if (!pendingSaves.containsKey(username) && !pendingDeletes.contains(username)) {
+                pendingDeletes.add(username);
+            }
+        }
+    }
+
+    public synchronized int getPendingCount() {
+        return pendingSaves.size() + pendingDeletes.size();
+    }
+
+    public void flush() {
+        synchronized (flushLock) {
+            List<User> saves;
+            List<String> deletes;
+            synchronized (this) {
+                if (pendingSaves.isEmpty() && pendingDeletes.isEmpty()) {
+                    return;
+                }
+                inFlightSaves.putAll(pendingSaves);
+                inFlightDeletes.addAll(pendingDeletes);
+                pendingSaves.clear();
+                pendingDeletes.clear();
+                saves = new ArrayList<>(inFlightSaves.values());
+                deletes = new ArrayList<>(inFlightDeletes);
+            }
+
+            boolean applied = false;
+            try {
+                applied = delegate.applyChanges(saves, deletes);
+            } catch (RuntimeException e) {
+                Gdx.app.error("WriteBehindUserStorage", "Error flushing " + (saves.size() + deletes.size()) + " changes", e);
+            }
+
+            synchronized (this) {
+                if (!applied) {
+                    requeueInFlight();
+                }
+                inFlightSaves.clear();
+                inFlightDeletes.clear();
+            }
+        }
+    }
+}
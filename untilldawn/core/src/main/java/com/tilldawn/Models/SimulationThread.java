@@ -0,0 +1,100 @@
+package com.tilldawn.Models;
+
+import com.badlogic.gdx.Gdx;
+
+import java.util.concurrent.locks.LockSupport;
+
+public class SimulationThread implements Runnable {
+    public static final long TICK_NANOS = (long) (GameWorld.FIXED_TIMESTEP * 1_000_000_000L);
+    private static final int MAX_LAG_TICKS = 5;
+
+    private final GameWorld world;
+    private final SnapshotBuffer snapshots = new SnapshotBuffer();
+    private final float viewWidth;
+    private final float viewHeight;
+
+    private Thread thread;
+    private volatile boolean running;
+    private volatile boolean paused;
+
+    public SimulationThread(GameWorld world, float viewWidth, float viewHeight) {
+        this.world = world;
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+
+        synchronized (world) {
+            publish();
+        }
+        snapshots.acquire();
+    }
+
+    public void start() {
+        if (thread != null) return;
+
+        running = true;
+        thread = new Thread(this, "GameWorld-simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void stop() {
+        if (thread == null) return;
+
+        running = false;
+        thread.interrupt();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+    }
+
+    @Override
+    public void run() {
+        long nextTick = System.nanoTime();
+
+        while (running) {
+            long now = System.nanoTime();
+            if (now < nextTick) {
+                LockSupport.parkNanos(nextTick - now);
+                continue;
+            }
+
+            try {
+                synchronized (world) {
+                    world.applyCommands();
+                    if (!paused && !world.isGameOver() && !world.isAwaitingAbilityChoice()) {
+                        world.tick(GameWorld.FIXED_TIMESTEP);
+                    }
+                    publish();
+                }
+            } catch (RuntimeException e) {
+                Gdx.app.error("SimulationThread", "Error ticking game world", e);
+                running = false;
+                return;
+            }
+
+
+            nextTick += TICK_NANOS;
+            if (System.nanoTime() - nextTick > TICK_NANOS * MAX_LAG_TICKS) {
+                nextTick = System.nanoTime();
+            }
+        }
+    }
+
+    private void publish() {
+        WorldSnapshot back = snapshots.getBack();
+        world.capture(back, viewWidth, viewHeight);
+        back.setPublishTimeNanos(System.nanoTime());
+        snapshots.publish();
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    public WorldSnapshot getSnapshot() {
+        return snapshots.acquire();
+    }
+}
@@ -0,0 +1,58 @@
+package com.tilldawn.Models;
+
+import com.badlogic.gdx.Gdx;
+
+public class SoundEvents {
+    private static final int CAPACITY = 64;
+
+    private final String[] names = new String[CAPACITY];
+    private final float[] volumes = new float[CAPACITY];
+    private int size;
+    private int dropped;
+
+    public void add(String name, float volume) {
+        if (size == CAPACITY) {
+            dropped++;
+            return;
+        }
+
+        names[size] = name;
+        volumes[size] = volume;
+        size++;
+    }
+
+    public void moveTo(SoundEvents out) {
+        for (int i = 0; i < size; i++) {
+            out.add(names[i], volumes[i]);
+        }
+        out.dropped += dropped;
+        clear();
+    }
+
+    public void play(SoundManager soundManager) {
+        if (dropped > 0) {
+            Gdx.app.error("SoundEvents", "Dropped " + dropped + " sound events, queue holds " + CAPACITY);
+        }
+
+        for (int i = 0; i < size; i++) {
+            soundManager.play(names[i], volumes[i]);
+        }
+        clear();
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            names[i] = null;
+        }
+        size = 0;
+        dropped = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getDropped() {
+        return dropped;
+    }
+}
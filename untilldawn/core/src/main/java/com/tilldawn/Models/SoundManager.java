@@ -40,6 +40,10 @@ public class SoundManager implements Disposable {
     }
 
     private void loadSounds() {
+        if (Gdx.audio == null) {
+            return;
+        }
+
         try {
             sounds.put(BUTTON_CLICK, Gdx.audio.newSound(Gdx.files.internal("Music/button_click.wav")));
             sounds.put(WEAPON_FIRE, Gdx.audio.newSound(Gdx.files.internal("Music/weapon_fire.wav")));
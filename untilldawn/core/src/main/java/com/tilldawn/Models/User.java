@@ -47,6 +47,24 @@ public class User {
         this(userName, password, securityQuestion, securityAnswer, "");
     }
 
+    public User(User other) {
+        this.userName = other.userName;
+        this.password = other.password;
+        this.securityQuestion = other.securityQuestion;
+        this.securityAnswer = other.securityAnswer;
+        this.avatarIndex = other.avatarIndex;
+        this.avatarPath = other.avatarPath;
+
+        this.lastWeaponUsed = other.lastWeaponUsed;
+        this.lastGameTime = other.lastGameTime;
+        this.lastHeroUsed = other.lastHeroUsed;
+        this.highScore = other.highScore;
+        this.totalGamesPlayed = other.totalGamesPlayed;
+        this.totalKills = other.totalKills;
+        this.longestSurvivalTime = other.longestSurvivalTime;
+        this.totalSurvivalTime = other.totalSurvivalTime;
+    }
+
     public String getLastWeaponUsed() {
         return lastWeaponUsed;
     }
@@ -1,11 +1,8 @@
 package com.tilldawn.Models;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
 import com.tilldawn.Models.Hero.WeaponType;
 
 public class Weapon {
@@ -16,7 +13,8 @@ public class Weapon {
     private int currentAmmo;
     private float reloadTimer = 0;
     private boolean isReloading = false;
-    private Array<Bullet> bullets;
+    private final BulletSystem bulletSystem;
+    private final SoundEvents soundEvents;
     private float shootTimer = 0;
     private static final float SHOOT_DELAY = 0.05f;
     private int additionalProjectileCount = 0;
@@ -34,26 +32,22 @@ public class Weapon {
     private boolean lastShootAttemptFailed = false;
     private String shootFailReason = "";
 
-    public Weapon(WeaponType type) {
+    public Weapon(WeaponType type, BulletSystem bulletSystem, SoundEvents soundEvents) {
         this.type = type;
         this.currentAmmo = type.getMaxAmmo();
         this.position = new Vector2();
-        this.bullets = new Array<>();
+        this.bulletSystem = bulletSystem;
+        this.soundEvents = soundEvents;
         this.additionalProjectileCount = 0;
         this.additionalMaxAmmo = 0;
-        loadTexture();
     }
 
     private void loadTexture() {
-        try {
+        texture = type.getTextureRegion();
+        if (texture == null) {
 
-            Texture weaponTexture = new Texture(Gdx.files.internal(type.getTexturePath()));
-            texture = new TextureRegion(weaponTexture);
-        } catch (Exception e) {
-
-            Texture defaultTexture = new Texture(Gdx.files.internal("GUNS/SMG.png"));
-            texture = new TextureRegion(defaultTexture);
-            Gdx.app.error("Weapon", "Error loading texture: " + e.getMessage());
+            texture = WeaponType.SMGS_DUAL.getTextureRegion();
+            Gdx.app.error("Weapon", "Error loading texture for " + type.getName());
         }
     }
 
@@ -75,23 +69,6 @@ public class Weapon {
 
 
         updatePosition(playerPosition);
-
-
-        for (int i = bullets.size - 1; i >= 0; i--) {
-            try {
-                Bullet bullet = bullets.get(i);
-                bullet.update(delta);
-
-
-                if (bullet.isOutOfBounds()) {
-                    bullets.removeIndex(i);
-                }
-            } catch (Exception e) {
-
-                bullets.removeIndex(i);
-                Gdx.app.error("Weapon", "Error updating bullet: " + e.getMessage());
-            }
-        }
     }
 
 
@@ -112,27 +89,18 @@ public class Weapon {
         position.y = playerPosition.y + offsetY;
     }
 
-    public void render(SpriteBatch batch) {
-
-        for (int i = 0; i < bullets.size; i++) {
-            try {
-                Bullet bullet = bullets.get(i);
-                bullet.render(batch);
-            } catch (Exception e) {
-                Gdx.app.error("Weapon", "Error rendering bullet: " + e.getMessage());
-            }
+    public void capture(WorldSnapshot out) {
+        if (texture == null) {
+            loadTexture();
         }
 
-
-        batch.draw(texture,
-            position.x - WEAPON_WIDTH/2, position.y - WEAPON_HEIGHT/2,
-            WEAPON_WIDTH/2, WEAPON_HEIGHT/2,
-            WEAPON_WIDTH, WEAPON_HEIGHT,
-            1, 1, rotation);
+        out.setWeapon(texture, type, position.x, position.y,
+            WEAPON_WIDTH, WEAPON_HEIGHT, rotation,
+            currentAmmo, isReloading, getReloadProgress());
     }
 
     public boolean shoot(Vector2 playerPosition, float targetX, float targetY, boolean infiniteShootingEnabled) {
-        SoundManager.getInstance().play(SoundManager.WEAPON_FIRE,0.06f);
+        soundEvents.add(SoundManager.WEAPON_FIRE, 0.06f);
 
         if (!infiniteShootingEnabled && isReloading) {
             lastShootAttemptFailed = true;
@@ -190,12 +158,7 @@ public class Weapon {
             float spreadDx = dx * (float) Math.cos(radians) - dy * (float) Math.sin(radians);
             float spreadDy = dx * (float) Math.sin(radians) + dy * (float) Math.cos(radians);
 
-            try {
-                Bullet bullet = new Bullet(position.x, position.y, spreadDx, spreadDy, type.getDamage());
-                bullets.add(bullet);
-            } catch (Exception e) {
-                System.err.println("Error creating bullet: " + e.getMessage());
-            }
+            bulletSystem.spawn(position.x, position.y, spreadDx, spreadDy, type.getDamage(), BulletSystem.OWNER_PLAYER);
         }
 
 
@@ -213,7 +176,7 @@ public class Weapon {
     }
 
     public void startReload() {
-        SoundManager.getInstance().play(SoundManager.WEAPON_RELOAD,0.5f);
+        soundEvents.add(SoundManager.WEAPON_RELOAD, 0.5f);
 
         if (!isReloading && currentAmmo < type.getMaxAmmo()) {
             isReloading = true;
@@ -244,8 +207,8 @@ public class Weapon {
         return reloadTimer / type.getReloadTime();
     }
 
-    public Array<Bullet> getBullets() {
-        return bullets;
+    public BulletSystem getBulletSystem() {
+        return bulletSystem;
     }
 
     public boolean wasLastShootAttemptFailed() {
@@ -261,9 +224,7 @@ public class Weapon {
     }
 
     public void dispose() {
-        if (texture != null && texture.getTexture() != null) {
-            texture.getTexture().dispose();
-        }
+        texture = null;
     }
 
     public void increaseProjectileCount(int amount) {
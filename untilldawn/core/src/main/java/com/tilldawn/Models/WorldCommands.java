@@ -0,0 +1,110 @@
+package com.tilldawn.Models;
+
+import com.badlogic.gdx.Gdx;
+
+public class WorldCommands {
+    public static final int RELOAD = 1;
+    public static final int SELECT_ABILITY = 2;
+    public static final int GIVE_UP = 3;
+    public static final int SET_WEAPON = 4;
+    public static final int FORCE_LEVEL_UP = 5;
+    public static final int REFILL_HEALTH = 6;
+    public static final int DECREASE_TIME = 7;
+    public static final int BOSS_FIGHT = 8;
+
+    private static final int CAPACITY = 64;
+    private static final int MASK = CAPACITY - 1;
+
+    private volatile float moveX, moveY;
+    private volatile float aimX, aimY;
+    private volatile boolean firing;
+    private volatile boolean autoAim;
+    private volatile boolean infiniteShooting;
+    private volatile boolean reloadHeld;
+
+    private final int[] codes = new int[CAPACITY];
+    private final int[] arguments = new int[CAPACITY];
+    private volatile int written;
+    private volatile int read;
+
+    private int code;
+    private int argument;
+
+    public void setInput(float moveX, float moveY, float aimX, float aimY,
+                         boolean firing, boolean autoAim, boolean infiniteShooting, boolean reloadHeld) {
+        this.moveX = moveX;
+        this.moveY = moveY;
+        this.aimX = aimX;
+        this.aimY = aimY;
+        this.firing = firing;
+        this.autoAim = autoAim;
+        this.infiniteShooting = infiniteShooting;
+        this.reloadHeld = reloadHeld;
+    }
+
+    public void send(int code) {
+        send(code, 0);
+    }
+
+    public void send(int code, int argument) {
+        int slot = written;
+        if (slot - read == CAPACITY) {
+            Gdx.app.error("WorldCommands", "Command buffer full, dropping command " + code);
+            return;
+        }
+
+        codes[slot & MASK] = code;
+        arguments[slot & MASK] = argument;
+        written = slot + 1;
+    }
+
+    public boolean next() {
+        int slot = read;
+        if (slot == written) return false;
+
+        code = codes[slot & MASK];
+        argument = arguments[slot & MASK];
+        read = slot + 1;
+        return true;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public int getArgument() {
+        return argument;
+    }
+
+    public float getMoveX() {
+        return moveX;
+    }
+
+    public float getMoveY() {
+        return moveY;
+    }
+
+    public float getAimX() {
+        return aimX;
+    }
+
+    public float getAimY() {
+        return aimY;
+    }
+
+    public boolean isFiring() {
+        return firing;
+    }
+
+    public boolean isAutoAim() {
+        return autoAim;
+    }
+
+    public boolean isInfiniteShooting() {
+        return infiniteShooting;
+    }
+
+    public boolean isReloadHeld() {
+        return reloadHeld;
+    }
+}
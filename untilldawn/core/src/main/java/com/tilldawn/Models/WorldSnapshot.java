@@ -0,0 +1,368 @@
+package com.tilldawn.Models;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.tilldawn.Models.Hero.AbilityType;
+import com.tilldawn.Models.Hero.WeaponType;
+
+public class WorldSnapshot {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private int spriteCount;
+    private TextureRegion[] regions = new TextureRegion[INITIAL_CAPACITY];
+    private float[] previousX = new float[INITIAL_CAPACITY];
+    private float[] previousY = new float[INITIAL_CAPACITY];
+    private float[] x = new float[INITIAL_CAPACITY];
+    private float[] y = new float[INITIAL_CAPACITY];
+    private float[] width = new float[INITIAL_CAPACITY];
+    private float[] height = new float[INITIAL_CAPACITY];
+    private float[] rotation = new float[INITIAL_CAPACITY];
+    private int drawnCount;
+    private int culledCount;
+
+
+    private float previousPlayerX, previousPlayerY;
+    private float playerX, playerY;
+    private float playerVelocityX, playerVelocityY;
+    private boolean playerMoving;
+    private float invincibilityTimer;
+
+
+    private TextureRegion weaponRegion;
+    private WeaponType weaponType;
+    private float weaponX, weaponY;
+    private float weaponWidth, weaponHeight;
+    private float weaponRotation;
+    private int currentAmmo;
+    private boolean reloading;
+    private float reloadProgress;
+
+
+    private boolean hasAutoAimTarget;
+    private float previousTargetX, previousTargetY;
+    private float targetX, targetY;
+
+
+    private float remainingGameTime;
+    private float survivalTime;
+    private float playerHealth;
+    private float playerMaxHealth;
+    private int playerKills;
+    private int playerLevel;
+    private int playerXP;
+    private int xpToNextLevel;
+    private float damageBoostTimer;
+    private float speedBoostTimer;
+    private boolean gameOver;
+    private final Array<AbilityType> abilities = new Array<>();
+
+
+    private int enemyCount;
+    private int itemCount;
+    private int enemyBulletCount;
+    private int playerBulletCount;
+    private long publishTimeNanos;
+    private final SoundEvents sounds = new SoundEvents();
+
+    public void clearSprites() {
+        spriteCount = 0;
+        drawnCount = 0;
+        culledCount = 0;
+    }
+
+    public void addSprite(TextureRegion region, float previousCenterX, float previousCenterY,
+                          float centerX, float centerY, float spriteWidth, float spriteHeight, float spriteRotation) {
+        if (spriteCount == regions.length) {
+            grow(spriteCount * 2);
+        }
+
+        int i = spriteCount++;
+        regions[i] = region;
+        previousX[i] = previousCenterX;
+        previousY[i] = previousCenterY;
+        x[i] = centerX;
+        y[i] = centerY;
+        width[i] = spriteWidth;
+        height[i] = spriteHeight;
+        rotation[i] = spriteRotation;
+        drawnCount++;
+    }
+
+    public void addCulled(int count) {
+        culledCount += count;
+    }
+
+    private void grow(int capacity) {
+        TextureRegion[] grownRegions = new TextureRegion[capacity];
+        System.arraycopy(regions, 0, grownRegions, 0, spriteCount);
+        regions = grownRegions;
+        previousX = copyOf(previousX, capacity);
+        previousY = copyOf(previousY, capacity);
+        x = copyOf(x, capacity);
+        y = copyOf(y, capacity);
+        width = copyOf(width, capacity);
+        height = copyOf(height, capacity);
+        rotation = copyOf(rotation, capacity);
+    }
+
+    private static float[] copyOf(float[] source, int capacity) {
+        float[] grown = new float[capacity];
+        System.arraycopy(source, 0, grown, 0, source.length);
+        return grown;
+    }
+
+    void setPlayer(float previousX, float previousY, float currentX, float currentY,
+                   float velocityX, float velocityY, boolean moving, float invincibility) {
+        previousPlayerX = previousX;
+        previousPlayerY = previousY;
+        playerX = currentX;
+        playerY = currentY;
+        playerVelocityX = velocityX;
+        playerVelocityY = velocityY;
+        playerMoving = moving;
+        invincibilityTimer = invincibility;
+    }
+
+    void setWeapon(TextureRegion region, WeaponType type, float centerX, float centerY,
+                   float weaponWidth, float weaponHeight, float weaponRotation,
+                   int ammo, boolean isReloading, float progress) {
+        this.weaponRegion = region;
+        this.weaponType = type;
+        this.weaponX = centerX;
+        this.weaponY = centerY;
+        this.weaponWidth = weaponWidth;
+        this.weaponHeight = weaponHeight;
+        this.weaponRotation = weaponRotation;
+        this.currentAmmo = ammo;
+        this.reloading = isReloading;
+        this.reloadProgress = progress;
+    }
+
+    void setAutoAimTarget(boolean hasTarget, float previousX, float previousY, float currentX, float currentY) {
+        hasAutoAimTarget = hasTarget;
+        previousTargetX = previousX;
+        previousTargetY = previousY;
+        targetX = currentX;
+        targetY = currentY;
+    }
+
+    void setStatus(float remainingTime, float survived, float health, float maxHealth, int kills, int level, int xp, int xpToNext,
+                   float damageBoost, float speedBoost, boolean isGameOver, Array<AbilityType> playerAbilities) {
+        remainingGameTime = remainingTime;
+        survivalTime = survived;
+        playerHealth = health;
+        playerMaxHealth = maxHealth;
+        playerKills = kills;
+        playerLevel = level;
+        playerXP = xp;
+        xpToNextLevel = xpToNext;
+        damageBoostTimer = damageBoost;
+        speedBoostTimer = speedBoost;
+        gameOver = isGameOver;
+        abilities.clear();
+        abilities.addAll(playerAbilities);
+    }
+
+    void setEntityCounts(int enemies, int items, int enemyBullets, int playerBullets) {
+        enemyCount = enemies;
+        itemCount = items;
+        enemyBulletCount = enemyBullets;
+        playerBulletCount = playerBullets;
+    }
+
+    public void setPublishTimeNanos(long publishTimeNanos) {
+        this.publishTimeNanos = publishTimeNanos;
+    }
+
+    public long getPublishTimeNanos() {
+        return publishTimeNanos;
+    }
+
+    public int getSpriteCount() {
+        return spriteCount;
+    }
+
+    public TextureRegion getRegion(int index) {
+        return regions[index];
+    }
+
+    public float getX(int index, float alpha) {
+        return previousX[index] + (x[index] - previousX[index]) * alpha;
+    }
+
+    public float getY(int index, float alpha) {
+        return previousY[index] + (y[index] - previousY[index]) * alpha;
+    }
+
+    public float getWidth(int index) {
+        return width[index];
+    }
+
+    public float getHeight(int index) {
+        return height[index];
+    }
+
+    public float getRotation(int index) {
+        return rotation[index];
+    }
+
+    public int getDrawnCount() {
+        return drawnCount;
+    }
+
+    public int getCulledCount() {
+        return culledCount;
+    }
+
+    public float getPlayerX(float alpha) {
+        return previousPlayerX + (playerX - previousPlayerX) * alpha;
+    }
+
+    public float getPlayerY(float alpha) {
+        return previousPlayerY + (playerY - previousPlayerY) * alpha;
+    }
+
+    public float getPlayerVelocityX() {
+        return playerVelocityX;
+    }
+
+    public float getPlayerVelocityY() {
+        return playerVelocityY;
+    }
+
+    public boolean isPlayerMoving() {
+        return playerMoving;
+    }
+
+    public float getInvincibilityTimer() {
+        return invincibilityTimer;
+    }
+
+    public TextureRegion getWeaponRegion() {
+        return weaponRegion;
+    }
+
+    public WeaponType getWeaponType() {
+        return weaponType;
+    }
+
+    public float getWeaponX(float alpha) {
+        return weaponX + getPlayerX(alpha) - playerX;
+    }
+
+    public float getWeaponY(float alpha) {
+        return weaponY + getPlayerY(alpha) - playerY;
+    }
+
+    public float getWeaponWidth() {
+        return weaponWidth;
+    }
+
+    public float getWeaponHeight() {
+        return weaponHeight;
+    }
+
+    public float getWeaponRotation() {
+        return weaponRotation;
+    }
+
+    public int getCurrentAmmo() {
+        return currentAmmo;
+    }
+
+    public boolean isReloading() {
+        return reloading;
+    }
+
+    public float getReloadProgress() {
+        return reloadProgress;
+    }
+
+    public boolean hasAutoAimTarget() {
+        return hasAutoAimTarget;
+    }
+
+    public float getTargetX(float alpha) {
+        return previousTargetX + (targetX - previousTargetX) * alpha;
+    }
+
+    public float getTargetY(float alpha) {
+        return previousTargetY + (targetY - previousTargetY) * alpha;
+    }
+
+    public float getRemainingGameTime() {
+        return remainingGameTime;
+    }
+
+    public float getSurvivalTime() {
+        return survivalTime;
+    }
+
+    public boolean isTimeUp() {
+        return remainingGameTime <= 0;
+    }
+
+    public boolean isPlayerDead() {
+        return playerHealth <= 0;
+    }
+
+    public float getPlayerHealth() {
+        return playerHealth;
+    }
+
+    public float getPlayerMaxHealth() {
+        return playerMaxHealth;
+    }
+
+    public int getPlayerKills() {
+        return playerKills;
+    }
+
+    public int getPlayerLevel() {
+        return playerLevel;
+    }
+
+    public int getPlayerXP() {
+        return playerXP;
+    }
+
+    public int getXpToNextLevel() {
+        return xpToNextLevel;
+    }
+
+    public float getDamageBoostTimer() {
+        return damageBoostTimer;
+    }
+
+    public float getSpeedBoostTimer() {
+        return speedBoostTimer;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public SoundEvents getSounds() {
+        return sounds;
+    }
+
+    public Array<AbilityType> getAbilities() {
+        return abilities;
+    }
+
+    public int getEnemyCount() {
+        return enemyCount;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public int getEnemyBulletCount() {
+        return enemyBulletCount;
+    }
+
+    public int getPlayerBulletCount() {
+        return playerBulletCount;
+    }
+}
@@ -17,6 +17,7 @@ import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.tilldawn.Controllers.GameController;
+import com.tilldawn.Models.AssetManifest;
 import com.tilldawn.Models.GameAssetManager;
 import com.tilldawn.Models.SaveData;
 import com.tilldawn.Models.SoundManager;
@@ -95,15 +96,10 @@ public class GameOverScreen implements Screen {
         GameAssetManager assetManager = GameAssetManager.getGameAssetManager();
 
 
-        try {
-            if (isVictory) {
-                backgroundTexture = new Texture(Gdx.files.internal("backgrounds/YOUWIN.png"));
-            } else {
-                backgroundTexture = new Texture(Gdx.files.internal("backgrounds/YOULOSE.png"));
-            }
-        } catch (Exception e) {
-
-            Gdx.app.error("GameOverScreen", "Error loading background texture: " + e.getMessage());
+        if (isVictory) {
+            backgroundTexture = assetManager.get(AssetManifest.VICTORY_BACKGROUND, Texture.class);
+        } else {
+            backgroundTexture = assetManager.get(AssetManifest.DEFEAT_BACKGROUND, Texture.class);
         }
 
 
@@ -115,7 +111,7 @@ public class GameOverScreen implements Screen {
 
 
         try {
-            Texture iconSheet = new Texture(Gdx.files.internal("heroes/character1.png"));
+            TextureRegion iconSheet = assetManager.loadGameplayRegion("heroes/character1.png");
             trophyTexture = new TextureRegion(iconSheet, 0, 0, 64, 64);
             skullTexture = new TextureRegion(iconSheet, 64, 0, 64, 64);
         } catch (Exception e) {
@@ -395,9 +391,7 @@ public class GameOverScreen implements Screen {
     public void dispose() {
         batch.dispose();
 
-        if (backgroundTexture != null) {
-            backgroundTexture.dispose();
-        }
+        GameAssetManager.getGameAssetManager().unload(AssetManifest.GAME_OVER);
 
         if (pixelTexture != null) {
             pixelTexture.dispose();
@@ -10,20 +10,18 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.*;
-import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.tilldawn.Controllers.GameController;
 import com.tilldawn.Models.*;
-import com.tilldawn.Models.Enemy.Enemy;
-import com.tilldawn.Models.Enemy.EnemyManager;
+import com.tilldawn.Models.Enemy.EnemyType;
 import com.tilldawn.Models.Hero.AbilityType;
 import com.tilldawn.Models.Hero.HeroType;
 import com.tilldawn.Models.Hero.WeaponType;
-import com.tilldawn.Models.Item.Item;
+import com.tilldawn.Models.Item.ItemType;
 
 import static com.tilldawn.Models.Item.ItemType.DAMAGE_BOOST;
 
@@ -32,14 +30,12 @@ public class GameView implements Screen {
     private static final float WORLD_WIDTH = 800;
     private static final float WORLD_HEIGHT = 480;
     private static final float PLAYER_SPEED = 200;
+    private static final float MAX_FRAME_TIME = 0.25f;
+    private static final int MAX_SUBSTEPS = 5;
 
 
-    private static final float GAME_WORLD_WIDTH = 3000;
-    private static final float GAME_WORLD_HEIGHT = 3000;
-
-
-    private static final float PLAYER_WIDTH = 64;
-    private static final float PLAYER_HEIGHT = 64;
+    private static final float PLAYER_WIDTH = GameWorld.PLAYER_WIDTH;
+    private static final float PLAYER_HEIGHT = GameWorld.PLAYER_HEIGHT;
 
 
     private final GameController controller;
@@ -51,56 +47,44 @@ public class GameView implements Screen {
 
 
     private Texture backgroundTexture;
-    private Texture playerTexture;
+    private TextureRegion fallbackPlayerFrame;
     private TextureRegion currentPlayerFrame;
     private Animation<TextureRegion> walkAnimation;
     private float stateTime;
 
 
-    private Vector2 playerPosition;
-    private Vector2 playerVelocity;
-    private Rectangle playerBounds;
+    private final GameWorld world;
     private boolean isPlayerMoving;
     private PlayerDirection playerDirection;
-    private int playerKills = 0;
     private float lightRadius = 100f;
     private Texture lightTexture;
 
 
-    private Weapon currentWeapon;
     private boolean autoAim = false;
 
 
     private Vector3 mousePosition = new Vector3();
+    private final Vector3 targetScreenPosition = new Vector3();
+    private final WorldSnapshot localSnapshot = new WorldSnapshot();
+    private WorldSnapshot snapshot = localSnapshot;
+    private SimulationThread simulation;
+    private float accumulator;
+    private float renderAlpha = 1f;
+    private WorldCommands commands;
+    private boolean resultRecorded;
+    private boolean resultTimeUp;
+    private boolean resultPlayerDead;
+    private int resultKills;
+    private float resultSurvivalTime;
     private boolean canShoot = true;
 
-
-    private float playerHealth;
-    private float playerMaxHealth;
-    private float playerSpeed;
-    private float basePlayerSpeed;
-    private float damageMultiplier = 1.0f;
-    private float speedMultiplier = 1.0f;
-    private float invincibilityTimer = 0;
-    private static final float INVINCIBILITY_DURATION = 1.0f;
-    private EnemyManager enemyManager;
-
-    private int playerLevel = 1;
-    private int playerXP = 0;
-    private int xpToNextLevel = 20;
-    private Array<AbilityType> playerAbilities = new Array<>();
     private boolean showAbilitySelection = false;
     private AbilityType[] abilityChoices;
-    private float damageBoostTimer = 0;
-    private float speedBoostTimer = 0;
 
 
 
     private HeroType selectedHero;
     private WeaponType selectedWeapon;
-    private int gameTimeMinutes;
-    private float gameTimeElapsed = 0;
-    private boolean gameOver = false;
 
 
 
@@ -134,6 +118,36 @@ public class GameView implements Screen {
     private BitmapFont descriptionFont;
 
 
+    private BitmapFont hudFont;
+    private BitmapFont cheatFont;
+    private BitmapFont cardFont;
+    private final GlyphLayout textLayout = new GlyphLayout();
+    private final HudLabel timeLabel = new HudLabel();
+    private final HudLabel weaponLabel = new HudLabel();
+    private final HudLabel reloadLabel = new HudLabel();
+    private final HudLabel healthLabel = new HudLabel();
+    private final HudLabel killsLabel = new HudLabel();
+    private final HudLabel levelLabel = new HudLabel();
+    private final HudLabel xpLabel = new HudLabel();
+    private final HudLabel damageBoostLabel = new HudLabel();
+    private final HudLabel speedBoostLabel = new HudLabel();
+    private final HudLabel heroLabel = new HudLabel();
+    private static final String AUTO_AIM_ON = "Auto-Aim: ON";
+    private static final String AUTO_AIM_OFF = "Auto-Aim: OFF";
+    private static final CheatCode[] CHEAT_CODES = CheatCode.values();
+    private static final String[] CHEAT_KEY_LABELS = new String[CHEAT_CODES.length];
+    private static final String[] SELECT_PROMPTS = new String[9];
+
+    static {
+        for (int i = 0; i < CHEAT_CODES.length; i++) {
+            CHEAT_KEY_LABELS[i] = "Key " + CHEAT_CODES[i].getKeyCode() + ":";
+        }
+        for (int i = 0; i < SELECT_PROMPTS.length; i++) {
+            SELECT_PROMPTS[i] = "Press " + (i + 1) + " to select";
+        }
+    }
+
+
     private boolean showingCheatCodes = false;
 
 
@@ -161,21 +175,45 @@ public class GameView implements Screen {
     private boolean keyR = false;
 
     private CheatManager cheatManager;
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
 
 
     public GameView(GameController controller, HeroType hero, WeaponType weapon, int timeMinutes) {
         this.controller = controller;
         this.selectedHero = hero;
         this.selectedWeapon = weapon;
-        this.gameTimeMinutes = timeMinutes;
         cheatManager = new CheatManager(this);
-        if (hero != null) {
 
-            this.playerMaxHealth = hero.getHealthPoints() * 25;
-            this.playerHealth = this.playerMaxHealth;
-            this.basePlayerSpeed = hero.getSpeed() * 40;
-            this.playerSpeed = this.basePlayerSpeed;
-        }
+        world = new GameWorld(hero, weapon, timeMinutes, MathUtils.random.nextLong());
+        commands = world.getCommands();
+        world.setListener(new GameWorld.Listener() {
+            @Override
+            public void onLevelUp(final AbilityType[] choices) {
+                runOnRenderThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        showAbilitySelection = true;
+                        abilityChoices = choices;
+                        controller.pauseGame();
+                    }
+                });
+            }
+
+            @Override
+            public void onGameOver() {
+                final boolean timeUp = world.isTimeUp();
+                final boolean playerDead = world.isPlayerDead();
+                final int kills = world.getPlayerKills();
+                final float survivalTime = world.getSurvivalTime();
+                runOnRenderThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        recordResult(timeUp, playerDead, kills, survivalTime);
+                        controller.endGame();
+                    }
+                });
+            }
+        });
 
         batch = new SpriteBatch();
 
@@ -189,28 +227,19 @@ public class GameView implements Screen {
         uiCamera.position.set(WORLD_WIDTH / 2, WORLD_HEIGHT / 2, 0);
 
 
-        playerPosition = new Vector2(GAME_WORLD_WIDTH / 2, GAME_WORLD_HEIGHT / 2);
-        playerVelocity = new Vector2();
-        playerBounds = new Rectangle(
-            playerPosition.x - PLAYER_WIDTH/2,
-            playerPosition.y - PLAYER_HEIGHT/2,
-            PLAYER_WIDTH,
-            PLAYER_HEIGHT
-        );
         playerDirection = PlayerDirection.DOWN;
 
+        loadAssets();
+        setupInput();
+        world.capture(localSnapshot, WORLD_WIDTH, WORLD_HEIGHT);
+    }
 
-        if (selectedWeapon != null) {
-            currentWeapon = new Weapon(selectedWeapon);
+    private void runOnRenderThread(Runnable runnable) {
+        if (simulation != null) {
+            Gdx.app.postRunnable(runnable);
         } else {
-
-            currentWeapon = new Weapon(WeaponType.REVOLVER);
+            runnable.run();
         }
-
-        enemyManager = new EnemyManager(GAME_WORLD_WIDTH, GAME_WORLD_HEIGHT, gameTimeMinutes * 60);
-
-        loadAssets();
-        setupInput();
     }
 
     private void loadMenuAssets() {
@@ -236,17 +265,21 @@ public class GameView implements Screen {
     }
 
     private void loadAssets() {
+        EnemyType.loadTextures();
+        ItemType.loadTextures();
+        BulletSystem.getTexture();
 
-        backgroundTexture = new Texture(Gdx.files.internal("backgrounds/game.png"));
+
+        GameAssetManager assets = GameAssetManager.getGameAssetManager();
+        backgroundTexture = assets.get(AssetManifest.GAME_BACKGROUND, Texture.class);
         backgroundTexture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
 
 
         if (selectedHero != null && selectedHero.getTextureRegion() != null) {
-            playerTexture = selectedHero.getTextureRegion().getTexture();
             currentPlayerFrame = selectedHero.getTextureRegion();
         } else {
-            playerTexture = new Texture(Gdx.files.internal("heroes/character3.png"));
-            currentPlayerFrame = new TextureRegion(playerTexture);
+            fallbackPlayerFrame = assets.loadGameplayRegion("heroes/character3.png");
+            currentPlayerFrame = fallbackPlayerFrame;
         }
 
 
@@ -254,6 +287,11 @@ public class GameView implements Screen {
         frames.add(currentPlayerFrame);
         walkAnimation = new Animation<>(0.1f, frames);
         createLightTexture();
+
+        hudFont = new BitmapFont();
+        cheatFont = new BitmapFont();
+        cardFont = new BitmapFont();
+        cardFont.getData().setScale(1.2f);
     }
 
     private void createLightTexture() {
@@ -288,10 +326,7 @@ public class GameView implements Screen {
     public void selectAbility(int index) {
         if (showAbilitySelection && abilityChoices != null && index >= 0 && index < abilityChoices.length) {
 
-            playerAbilities.add(abilityChoices[index]);
-
-
-            applyAbilityEffects(abilityChoices[index]);
+            commands.send(WorldCommands.SELECT_ABILITY, abilityChoices[index].ordinal());
 
 
             showAbilitySelection = false;
@@ -302,45 +337,21 @@ public class GameView implements Screen {
         }
     }
 
-    private void applyAbilityEffects(AbilityType ability) {
-        switch (ability) {
-            case VITALITY:
-
-                playerMaxHealth += 25;
-                playerHealth += 25;
-                break;
-            case DAMAGER:
-
-                damageMultiplier = 1.25f;
-                damageBoostTimer = 10;
-                break;
-            case PROCREASE:
-
-                if (currentWeapon != null) {
-                    currentWeapon.increaseProjectileCount(1);
-                }
-                break;
-            case AMOCREASE:
-
-                if (currentWeapon != null) {
-                    currentWeapon.increaseMaxAmmo(5);
-                    currentWeapon.addAmmo(5);
-                }
-                break;
-            case SPEEDY:
-
-                speedMultiplier = 2.0f;
-                playerSpeed = basePlayerSpeed * speedMultiplier;
-                speedBoostTimer = 10;
-                break;
-        }
-    }
-
     private void setupInput() {
         Gdx.input.setInputProcessor(new InputAdapter() {
             @Override
             public boolean keyDown(int keycode) {
 
+                if (keycode == Keys.F3) {
+                    profiler.toggleOverlay();
+                    return true;
+                }
+                if (keycode == Keys.F4) {
+                    profiler.toggleCsvRecording();
+                    return true;
+                }
+
+
                 if (showAbilitySelection) {
                     switch (keycode) {
                         case Keys.NUM_1:
@@ -514,7 +525,7 @@ public class GameView implements Screen {
                 showingCheatCodes = false;
                 break;
             case 3:
-                gameOver = true;
+                commands.send(WorldCommands.GIVE_UP);
                 controller.giveUp();
                 break;
         }
@@ -635,9 +646,9 @@ public class GameView implements Screen {
 
 
         titleFont.setColor(MENU_TITLE_COLOR);
-        GlyphLayout titleLayout = new GlyphLayout(titleFont, "GAME PAUSED");
-        titleFont.draw(batch, titleLayout,
-            menuX + menuWidth / 2 - titleLayout.width / 2,
+        textLayout.setText(titleFont, "GAME PAUSED");
+        titleFont.draw(batch, textLayout,
+            menuX + menuWidth / 2 - textLayout.width / 2,
             menuY + menuHeight - 30);
 
 
@@ -684,9 +695,9 @@ public class GameView implements Screen {
             }
 
             optionFont.setColor(MENU_KEY_COLOR);
-            GlyphLayout keyLayout = new GlyphLayout(optionFont, shortcutKey);
-            optionFont.draw(batch, shortcutKey,
-                menuX + menuWidth - 60 - keyLayout.width,
+            textLayout.setText(optionFont, shortcutKey);
+            optionFont.draw(batch, textLayout,
+                menuX + menuWidth - 60 - textLayout.width,
                 optionY - 15);
         }
 
@@ -720,14 +731,13 @@ public class GameView implements Screen {
         batch.draw(pixelTexture, menuX + menuWidth - borderThickness, menuY, borderThickness, menuHeight);
 
 
-        BitmapFont font = new BitmapFont();
+        BitmapFont font = cheatFont;
         font.setColor(1, 0.8f, 0.2f, 1);
         font.getData().setScale(2.0f);
 
-        String title = "CHEAT CODES";
-        GlyphLayout titleLayout = new GlyphLayout(font, title);
-        font.draw(batch, title,
-            menuX + menuWidth / 2 - titleLayout.width / 2,
+        textLayout.setText(font, "CHEAT CODES");
+        font.draw(batch, textLayout,
+            menuX + menuWidth / 2 - textLayout.width / 2,
             menuY + menuHeight - 30);
 
 
@@ -748,10 +758,11 @@ public class GameView implements Screen {
         textY -= lineHeight * 1.5f;
 
 
-        for (CheatCode cheat : CheatCode.values()) {
+        for (int i = 0; i < CHEAT_CODES.length; i++) {
+            CheatCode cheat = CHEAT_CODES[i];
 
             font.setColor(1, 1, 1, 1);
-            font.draw(batch, "Key " + cheat.getKeyCode() + ":", menuX + 30, textY);
+            font.draw(batch, CHEAT_KEY_LABELS[i], menuX + 30, textY);
 
 
             font.setColor(0, 1, 1, 1);
@@ -782,10 +793,9 @@ public class GameView implements Screen {
 
         font.setColor(1, 1, 1, 1);
         font.getData().setScale(1.5f);
-        String backText = "Back";
-        GlyphLayout backLayout = new GlyphLayout(font, backText);
-        font.draw(batch, backText,
-            WORLD_WIDTH - 100 + 40 - backLayout.width / 2,
+        textLayout.setText(font, "Back");
+        font.draw(batch, textLayout,
+            WORLD_WIDTH - 100 + 40 - textLayout.width / 2,
             50 + 25);
 
 
@@ -817,9 +827,9 @@ public class GameView implements Screen {
 
 
         titleFont.setColor(MENU_TITLE_COLOR);
-        GlyphLayout titleLayout = new GlyphLayout(titleFont, "YOUR ABILITIES");
-        titleFont.draw(batch, titleLayout,
-            menuX + menuWidth / 2 - titleLayout.width / 2,
+        textLayout.setText(titleFont, "YOUR ABILITIES");
+        titleFont.draw(batch, textLayout,
+            menuX + menuWidth / 2 - textLayout.width / 2,
             menuY + menuHeight - 30);
 
 
@@ -827,6 +837,7 @@ public class GameView implements Screen {
         batch.draw(pixelTexture, menuX + 20, menuY + menuHeight - 70, menuWidth - 40, 1);
 
 
+        Array<AbilityType> playerAbilities = snapshot.getAbilities();
         if (playerAbilities.size == 0) {
             descriptionFont.setColor(Color.LIGHT_GRAY);
             descriptionFont.draw(batch, "You haven't acquired any abilities yet.",
@@ -879,9 +890,9 @@ public class GameView implements Screen {
         batch.draw(pixelTexture, WORLD_WIDTH - 100 + 80 - 1, 50, 1, 40);
 
         optionFont.setColor(Color.WHITE);
-        GlyphLayout backLayout = new GlyphLayout(optionFont, "Back");
-        optionFont.draw(batch, backLayout,
-            WORLD_WIDTH - 100 + 40 - backLayout.width / 2,
+        textLayout.setText(optionFont, "Back");
+        optionFont.draw(batch, textLayout,
+            WORLD_WIDTH - 100 + 40 - textLayout.width / 2,
             50 + 25);
     }
 
@@ -922,14 +933,22 @@ public class GameView implements Screen {
     }
 
     private void startReload() {
-        if (currentWeapon != null) {
-            currentWeapon.startReload();
-        }
+        commands.send(WorldCommands.RELOAD);
     }
 
     @Override
     public void render(float delta) {
-        update(delta);
+        long frameStart = profiler.start();
+        int renderCallsBefore = batch.totalRenderCalls;
+
+        long stageStart = profiler.start();
+        boolean running = update(delta);
+        acquireSnapshot(running);
+        snapshot.getSounds().play(SoundManager.getInstance());
+        if (running) {
+            updateFromSnapshot(delta);
+        }
+        profiler.stop(FrameProfiler.Stage.UPDATE, stageStart);
 
 
         Gdx.gl.glClearColor(0.1f, 0.1f, 0.1f, 1);
@@ -950,34 +969,47 @@ public class GameView implements Screen {
         batch.setColor(Color.WHITE);
 
 
+        stageStart = profiler.start();
         drawRepeatingBackground();
+        profiler.stop(FrameProfiler.Stage.BACKGROUND, stageStart);
 
 
+        float playerX = snapshot.getPlayerX(renderAlpha);
+        float playerY = snapshot.getPlayerY(renderAlpha);
         if (lightTexture != null) {
             batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE);
             float lightSize = lightRadius * 2;
             batch.draw(lightTexture,
-                playerPosition.x - lightSize/2,
-                playerPosition.y - lightSize/2,
+                playerX - lightSize/2,
+                playerY - lightSize/2,
                 lightSize, lightSize);
             batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
         }
 
 
-        enemyManager.render(batch);
+        stageStart = profiler.start();
+        drawSprites();
+        profiler.stop(FrameProfiler.Stage.WORLD_RENDER, stageStart);
 
 
-        if (invincibilityTimer <= 0 || Math.sin(stateTime * 20) > 0) {
+        if (snapshot.getInvincibilityTimer() <= 0 || Math.sin(stateTime * 20) > 0) {
             batch.draw(currentPlayerFrame,
-                playerPosition.x - PLAYER_WIDTH/2,
-                playerPosition.y - PLAYER_HEIGHT/2,
+                playerX - PLAYER_WIDTH/2,
+                playerY - PLAYER_HEIGHT/2,
                 PLAYER_WIDTH,
                 PLAYER_HEIGHT);
         }
 
 
-        if (currentWeapon != null) {
-            currentWeapon.render(batch);
+        TextureRegion weaponRegion = snapshot.getWeaponRegion();
+        if (weaponRegion != null) {
+            float weaponWidth = snapshot.getWeaponWidth();
+            float weaponHeight = snapshot.getWeaponHeight();
+            batch.draw(weaponRegion,
+                snapshot.getWeaponX(renderAlpha) - weaponWidth/2, snapshot.getWeaponY(renderAlpha) - weaponHeight/2,
+                weaponWidth/2, weaponHeight/2,
+                weaponWidth, weaponHeight,
+                1, 1, snapshot.getWeaponRotation());
         }
 
 
@@ -987,13 +1019,12 @@ public class GameView implements Screen {
         batch.end();
 
 
+        stageStart = profiler.start();
         drawUI();
+        profiler.stop(FrameProfiler.Stage.UI, stageStart);
 
-        if (autoAim) {
-            Enemy target = findNearestEnemy();
-            if (target != null) {
-                drawTargetIndicator(target);
-            }
+        if (autoAim && snapshot.hasAutoAimTarget()) {
+            drawTargetIndicator();
         }
 
 
@@ -1005,9 +1036,94 @@ public class GameView implements Screen {
         if (isPaused) {
             renderPauseMenu();
         }
+
+
+        if (profiler.isEnabled()) {
+            profiler.stop(FrameProfiler.Stage.FRAME, frameStart);
+            profiler.setEntityCounts(snapshot.getEnemyCount(), snapshot.getItemCount(),
+                snapshot.getEnemyBulletCount(), snapshot.getPlayerBulletCount());
+            profiler.setSpriteCounts(snapshot.getDrawnCount(), snapshot.getCulledCount());
+            profiler.endFrame(batch.totalRenderCalls - renderCallsBefore);
+
+            if (profiler.isOverlayVisible()) {
+                drawProfilerOverlay();
+            }
+        }
+    }
+
+    private void drawProfilerOverlay() {
+        uiViewport.apply();
+        batch.setProjectionMatrix(uiCamera.combined);
+        batch.begin();
+
+        textLayout.setText(cheatFont, profiler.getReport());
+        float x = WORLD_WIDTH - textLayout.width - 20;
+        float y = WORLD_HEIGHT - 60;
+
+        if (pixelTexture != null) {
+            batch.setColor(0, 0, 0, 0.6f);
+            batch.draw(pixelTexture, x - 8, y - textLayout.height - 8, textLayout.width + 16, textLayout.height + 16);
+            batch.setColor(Color.WHITE);
+        }
+
+        cheatFont.setColor(Color.WHITE);
+        cheatFont.draw(batch, textLayout, x, y);
+
+        batch.end();
+    }
+
+    private void acquireSnapshot(boolean running) {
+        if (simulation == null) {
+            world.applyCommands();
+            world.capture(localSnapshot, WORLD_WIDTH, WORLD_HEIGHT);
+            snapshot = localSnapshot;
+            return;
+        }
+
+        simulation.setPaused(!running);
+        snapshot = simulation.getSnapshot();
+        if (running) {
+            float sinceTick = System.nanoTime() - snapshot.getPublishTimeNanos();
+            renderAlpha = MathUtils.clamp(sinceTick / SimulationThread.TICK_NANOS, 0f, 1f);
+        } else {
+            renderAlpha = 1f;
+        }
+    }
+
+    private void updateFromSnapshot(float delta) {
+        if (snapshot.hasAutoAimTarget()) {
+            targetScreenPosition.set(snapshot.getTargetX(1f), snapshot.getTargetY(1f), 0);
+            camera.project(targetScreenPosition);
+            Gdx.input.setCursorPosition((int)targetScreenPosition.x, (int)targetScreenPosition.y);
+        }
+
+
+        isPlayerMoving = snapshot.isPlayerMoving();
+        stateTime += delta;
+        if (isPlayerMoving && walkAnimation != null) {
+            currentPlayerFrame = walkAnimation.getKeyFrame(stateTime, true);
+        }
+
+
+        updatePlayerDirection();
+    }
+
+    private void drawSprites() {
+        for (int i = 0; i < snapshot.getSpriteCount(); i++) {
+            TextureRegion region = snapshot.getRegion(i);
+            if (region == null) continue;
+
+            float width = snapshot.getWidth(i);
+            float height = snapshot.getHeight(i);
+            batch.draw(region,
+                snapshot.getX(i, renderAlpha) - width/2, snapshot.getY(i, renderAlpha) - height/2,
+                width/2, height/2,
+                width, height,
+                1, 1, snapshot.getRotation(i));
+        }
     }
 
-    private void drawTargetIndicator(Enemy target) {
+    private void drawTargetIndicator() {
 
         viewport.apply();
         batch.setProjectionMatrix(camera.combined);
@@ -1015,13 +1131,12 @@ public class GameView implements Screen {
 
 
         batch.setColor(1, 0, 0, 0.7f);
-        Vector2 pos = target.getPosition();
         float size = 15;
 
 
         if (pixelTexture != null) {
             batch.draw(pixelTexture,
-                pos.x - size/2, pos.y - size/2,
+                snapshot.getTargetX(renderAlpha) - size/2, snapshot.getTargetY(renderAlpha) - size/2,
                 size, size);
         }
 
@@ -1067,226 +1182,45 @@ public class GameView implements Screen {
 
     private void updateCamera() {
 
-        camera.position.x = playerPosition.x;
-        camera.position.y = playerPosition.y;
+        camera.position.x = snapshot.getPlayerX(renderAlpha);
+        camera.position.y = snapshot.getPlayerY(renderAlpha);
     }
 
-    private void update(float delta) {
-        if (gameOver) return;
+    private boolean update(float delta) {
+        if (snapshot.isGameOver()) return false;
 
         if (isPaused) {
             menuAnimationTime += delta;
-            return;
+            return false;
         }
 
 
         if (showAbilitySelection) {
-            return;
+            return false;
         }
 
         cheatManager.update(delta);
 
 
-
-        gameTimeElapsed += delta;
-        if (gameTimeElapsed >= gameTimeMinutes * 60) {
-            gameOver = true;
-            controller.endGame();
-            return;
-        }
-
-
-        if (invincibilityTimer > 0) {
-            invincibilityTimer -= delta;
-        }
-
-
-        if (damageBoostTimer > 0) {
-            damageBoostTimer -= delta;
-            if (damageBoostTimer <= 0) {
-                damageMultiplier = 1.0f;
-            }
-        }
-
-        if (speedBoostTimer > 0) {
-            speedBoostTimer -= delta;
-            if (speedBoostTimer <= 0) {
-                speedMultiplier = 1.0f;
-                playerSpeed = basePlayerSpeed;
-            }
-        }
-
-
         updateMousePosition();
-        float targetX = mousePosition.x;
-        float targetY = mousePosition.y;
-
-        Enemy nearestEnemy = null;
-        if (autoAim) {
-            nearestEnemy = findNearestEnemy();
-            if (nearestEnemy != null) {
-                Vector2 enemyPos = nearestEnemy.getPosition();
-                targetX = enemyPos.x;
-                targetY = enemyPos.y;
-
-
-                Vector3 screenPos = new Vector3(targetX, targetY, 0);
-                camera.project(screenPos);
-                Gdx.input.setCursorPosition((int)screenPos.x, (int)screenPos.y);
+        sendInput();
+
+        if (simulation == null) {
+            world.applyCommands();
+            accumulator += Math.min(delta, MAX_FRAME_TIME);
+            int substeps = 0;
+            while (accumulator >= GameWorld.FIXED_TIMESTEP && substeps < MAX_SUBSTEPS
+                && !world.isGameOver() && !showAbilitySelection) {
+                world.tick(GameWorld.FIXED_TIMESTEP);
+                accumulator -= GameWorld.FIXED_TIMESTEP;
+                substeps++;
             }
-        }
-
-
-
-        if (currentWeapon != null) {
-            currentWeapon.update(delta, playerPosition, targetX, targetY);
-
-
-            if (mouseLeft || (autoAim && nearestEnemy != null)) {
-
-                boolean shotFired = currentWeapon.shoot(playerPosition, targetX, targetY, cheatManager.isInfiniteShootingEnabled());
-
-                if (shotFired && damageMultiplier > 1.0f) {
-
-                    for (Bullet bullet : currentWeapon.getBullets()) {
-                        bullet.setDamageMultiplier(damageMultiplier);
-                    }
-                }
-            }
-
-
-            if (keyR && !cheatManager.isInfiniteShootingEnabled()) {
-                currentWeapon.startReload();
-            }
-        }
-
-
-        enemyManager.update(delta, playerPosition);
-
-
-        if (currentWeapon != null) {
-            enemyManager.checkBulletCollisions(currentWeapon.getBullets(), this);
-        }
-
-
-        if (invincibilityTimer <= 0) {
-            for (Enemy enemy : enemyManager.getEnemies()) {
-                if (enemy.getBullets() != null) {
-                    for (int i = enemy.getBullets().size - 1; i >= 0; i--) {
-                        Bullet bullet = enemy.getBullets().get(i);
-                        if (bullet.getBounds().overlaps(playerBounds)) {
-                            takeDamage(bullet.getDamage());
-                            enemy.getBullets().removeIndex(i);
-                            break;
-                        }
-                    }
-                }
-            }
-        }
-
-
-        if (invincibilityTimer <= 0) {
-            if (enemyManager.checkPlayerCollisions(playerBounds)) {
-
-                takeDamage(10);
-            }
-        }
-
-
-        Array<Item> collectedItems = enemyManager.checkItemCollisions(playerBounds);
-        for (Item item : collectedItems) {
-            applyItemEffect(item);
-        }
-
-
-        updatePlayerVelocity();
-
-
-        if (playerVelocity.len() > 0) {
-
-            playerVelocity.nor().scl(playerSpeed * speedMultiplier * delta);
-            playerPosition.add(playerVelocity);
-            isPlayerMoving = true;
-
-
-            playerBounds.setPosition(
-                playerPosition.x - PLAYER_WIDTH/2,
-                playerPosition.y - PLAYER_HEIGHT/2
-            );
-        } else {
-            isPlayerMoving = false;
-        }
-
-
-        stateTime += delta;
-        if (isPlayerMoving && walkAnimation != null) {
-            currentPlayerFrame = walkAnimation.getKeyFrame(stateTime, true);
-        }
-
-
-        updatePlayerDirection();
-    }
-
-    private void takeDamage(float amount) {
-        SoundManager.getInstance().play(SoundManager.PLAYER_HURT,0.4f);
-
-        if (invincibilityTimer > 0) {
-            return;
-        }
-
-
-        playerHealth -= amount;
-
-
-        invincibilityTimer = INVINCIBILITY_DURATION;
-
-
-        if (playerHealth <= 0) {
-            playerHealth = 0;
-            gameOver = true;
-            controller.endGame();
-        }
-    }
-
-    private void updatePlayerSpeed() {
-
-        playerSpeed = basePlayerSpeed;
-
-
-        if (hasAbility(AbilityType.SPEEDY)) {
-            playerSpeed *= 1.2f;
-        }
-
-
-        playerSpeed *= speedMultiplier;
-    }
-
-    private boolean hasAbility(AbilityType type) {
-        return playerAbilities.contains(type, true);
-    }
-
-
-    private Enemy findNearestEnemy() {
-        Enemy nearest = null;
-        float minDistanceSquared = Float.MAX_VALUE;
-        float maxRange = 800f;
-
-        for (Enemy enemy : enemyManager.getEnemies()) {
-            if (enemy.isAlive()) {
-                Vector2 enemyPos = enemy.getPosition();
-                float dx = enemyPos.x - playerPosition.x;
-                float dy = enemyPos.y - playerPosition.y;
-                float distanceSquared = dx * dx + dy * dy;
-
-
-                if (distanceSquared < maxRange * maxRange && distanceSquared < minDistanceSquared) {
-                    minDistanceSquared = distanceSquared;
-                    nearest = enemy;
-                }
+            if (substeps == MAX_SUBSTEPS && accumulator >= GameWorld.FIXED_TIMESTEP) {
+                accumulator = 0;
             }
+            renderAlpha = MathUtils.clamp(accumulator / GameWorld.FIXED_TIMESTEP, 0f, 1f);
         }
-
-        return nearest;
+        return true;
     }
 
     private void renderAbilitySelection() {
@@ -1302,9 +1236,8 @@ public class GameView implements Screen {
 
 
         titleFont.setColor(Color.GOLD);
-        String title = "LEVEL UP! Choose an ability:";
-        GlyphLayout layout = new GlyphLayout(titleFont, title);
-        titleFont.draw(batch, title, WORLD_WIDTH / 2 - layout.width / 2, WORLD_HEIGHT - 100);
+        textLayout.setText(titleFont, "LEVEL UP! Choose an ability:");
+        titleFont.draw(batch, textLayout, WORLD_WIDTH / 2 - textLayout.width / 2, WORLD_HEIGHT - 100);
 
 
         if (abilityChoices != null) {
@@ -1343,8 +1276,7 @@ public class GameView implements Screen {
                 }
 
 
-                BitmapFont font = new BitmapFont();
-                font.getData().setScale(1.2f);
+                BitmapFont font = cardFont;
                 font.setColor(Color.WHITE);
                 font.draw(batch, ability.getName(), x + 60, y + cardHeight - 30);
 
@@ -1354,145 +1286,62 @@ public class GameView implements Screen {
 
 
                 font.setColor(Color.YELLOW);
-                font.draw(batch, "Press " + (i + 1) + " to select", x + 10, y + 30);
+                font.draw(batch, i < SELECT_PROMPTS.length ? SELECT_PROMPTS[i] : "Press " + (i + 1) + " to select",
+                    x + 10, y + 30);
             }
         }
 
         batch.end();
     }
 
-    private void applyItemEffect(Item item) {
-        switch (item.getType()) {
-            case HEALTH:
-
-                playerHealth = Math.min(playerHealth + 25, playerMaxHealth);
-                break;
-
-            case AMMO:
-
-                if (currentWeapon != null) {
-                    currentWeapon.addAmmo(10);
-                }
-                break;
-
-            case SPEED_BOOST:
-
-                speedMultiplier = 1.5f;
-                playerSpeed = basePlayerSpeed * speedMultiplier;
-                speedBoostTimer = 10;
-                break;
-
-            case DAMAGE_BOOST:
-
-                damageMultiplier = 2.0f;
-                damageBoostTimer = 10;
-                break;
-
-            case EXPERIENCE:
-
-                addXP(3);
-                break;
-        }
-    }
-
-    private void addXP(int amount) {
-        playerXP += amount;
-
-
-        if (playerXP >= xpToNextLevel) {
-            levelUp();
-        }
-    }
-
-    public void addKill() {
-        playerKills++;
-    }
-
-    private void levelUp() {
-        SoundManager.getInstance().play(SoundManager.LEVEL_UP,0.9f);
-
-        playerLevel++;
-        playerXP -= xpToNextLevel;
-
-
-        xpToNextLevel = 20 * playerLevel;
-
-
-        showAbilitySelection = true;
-
-
-        abilityChoices = getRandomAbilities(3);
-
-
-        controller.pauseGame();
-    }
-
-    private AbilityType[] getRandomAbilities(int count) {
-        AbilityType[] allTypes = AbilityType.values();
-
-
-        if (count > allTypes.length) {
-            count = allTypes.length;
-        }
-
-
-        AbilityType[] abilities = new AbilityType[count];
-        boolean[] used = new boolean[allTypes.length];
-
-        for (int i = 0; i < count; i++) {
-            int index;
-            do {
-                index = (int)(Math.random() * allTypes.length);
-            } while (used[index]);
-
-            used[index] = true;
-            abilities[i] = allTypes[index];
-        }
-
-        return abilities;
-    }
-
-    private void updatePlayerVelocity() {
-        playerVelocity.set(0, 0);
+    private void sendInput() {
+        float moveX = 0;
+        float moveY = 0;
 
 
         if (GameSettings.getInstance().isUsingWASD()) {
 
-            if (keyW) playerVelocity.y += 1;
-            if (keyS) playerVelocity.y -= 1;
-            if (keyA) playerVelocity.x -= 1;
-            if (keyD) playerVelocity.x += 1;
+            if (keyW) moveY += 1;
+            if (keyS) moveY -= 1;
+            if (keyA) moveX -= 1;
+            if (keyD) moveX += 1;
         } else {
 
-            if (keyUp) playerVelocity.y += 1;
-            if (keyDown) playerVelocity.y -= 1;
-            if (keyLeft) playerVelocity.x -= 1;
-            if (keyRight) playerVelocity.x += 1;
+            if (keyUp) moveY += 1;
+            if (keyDown) moveY -= 1;
+            if (keyLeft) moveX -= 1;
+            if (keyRight) moveX += 1;
         }
+
+        boolean infiniteShooting = cheatManager.isInfiniteShootingEnabled();
+        commands.setInput(moveX, moveY, mousePosition.x, mousePosition.y,
+            mouseLeft, autoAim, infiniteShooting, keyR && !infiniteShooting);
     }
 
     private void updatePlayerDirection() {
+        float velocityX = snapshot.getPlayerVelocityX();
+        float velocityY = snapshot.getPlayerVelocityY();
 
-        if (playerVelocity.x > 0) {
-            if (playerVelocity.y > 0) {
+        if (velocityX > 0) {
+            if (velocityY > 0) {
                 playerDirection = PlayerDirection.UP_RIGHT;
-            } else if (playerVelocity.y < 0) {
+            } else if (velocityY < 0) {
                 playerDirection = PlayerDirection.DOWN_RIGHT;
             } else {
                 playerDirection = PlayerDirection.RIGHT;
             }
-        } else if (playerVelocity.x < 0) {
-            if (playerVelocity.y > 0) {
+        } else if (velocityX < 0) {
+            if (velocityY > 0) {
                 playerDirection = PlayerDirection.UP_LEFT;
-            } else if (playerVelocity.y < 0) {
+            } else if (velocityY < 0) {
                 playerDirection = PlayerDirection.DOWN_LEFT;
             } else {
                 playerDirection = PlayerDirection.LEFT;
             }
         } else {
-            if (playerVelocity.y > 0) {
+            if (velocityY > 0) {
                 playerDirection = PlayerDirection.UP;
-            } else if (playerVelocity.y < 0) {
+            } else if (velocityY < 0) {
                 playerDirection = PlayerDirection.DOWN;
             }
         }
@@ -1519,52 +1368,67 @@ public class GameView implements Screen {
         batch.setProjectionMatrix(uiCamera.combined);
         batch.begin();
 
+        WeaponType weaponType = snapshot.getWeaponType();
+        Array<AbilityType> playerAbilities = snapshot.getAbilities();
+        int playerXP = snapshot.getPlayerXP();
+        int xpToNextLevel = snapshot.getXpToNextLevel();
+
 
-        int remainingSeconds = (int)(gameTimeMinutes * 60 - gameTimeElapsed);
+        int remainingSeconds = (int)snapshot.getRemainingGameTime();
         int minutes = remainingSeconds / 60;
         int seconds = remainingSeconds % 60;
 
 
-        BitmapFont font = new BitmapFont();
+        BitmapFont font = hudFont;
         font.setColor(1, 1, 1, 1);
-        font.draw(batch, String.format("Time: %02d:%02d", minutes, seconds),
-            20, WORLD_HEIGHT - 20);
-
-
-        if (currentWeapon != null) {
-            if (cheatManager.isInfiniteShootingEnabled()) {
+        if (timeLabel.changed(remainingSeconds)) {
+            timeLabel.append("Time: ").appendPadded(minutes, 2).append(':').appendPadded(seconds, 2);
+        }
+        timeLabel.draw(batch, font, 20, WORLD_HEIGHT - 20);
 
-                font.draw(batch, String.format("Weapon: %s | Ammo: infinity",
-                        currentWeapon.getType().getName()),
-                    WORLD_WIDTH - 300, WORLD_HEIGHT - 20);
-            } else {
 
-                font.draw(batch, String.format("Weapon: %s | Ammo: %d/%d",
-                        currentWeapon.getType().getName(),
-                        currentWeapon.getCurrentAmmo(),
-                        currentWeapon.getType().getMaxAmmo()),
-                    WORLD_WIDTH - 300, WORLD_HEIGHT - 20);
+        if (weaponType != null) {
+            boolean infiniteAmmo = cheatManager.isInfiniteShootingEnabled();
+            if (weaponLabel.changed(snapshot.getCurrentAmmo(), weaponType.getMaxAmmo(),
+                infiniteAmmo ? 1 : 0, weaponType)) {
+                weaponLabel.append("Weapon: ").append(weaponType.getName()).append(" | Ammo: ");
+                if (infiniteAmmo) {
+                    weaponLabel.append("infinity");
+                } else {
+                    weaponLabel.append(snapshot.getCurrentAmmo()).append('/').append(weaponType.getMaxAmmo());
+                }
             }
+            weaponLabel.draw(batch, font, WORLD_WIDTH - 300, WORLD_HEIGHT - 20);
 
 
-            if (!cheatManager.isInfiniteShootingEnabled() && currentWeapon.isReloading()) {
-                font.draw(batch, "Reloading... " +
-                        (int)(currentWeapon.getReloadProgress() * 100) + "%",
-                    WORLD_WIDTH - 300, WORLD_HEIGHT - 40);
+            if (!infiniteAmmo && snapshot.isReloading()) {
+                int reloadPercent = (int)(snapshot.getReloadProgress() * 100);
+                if (reloadLabel.changed(reloadPercent)) {
+                    reloadLabel.append("Reloading... ").append(reloadPercent).append('%');
+                }
+                reloadLabel.draw(batch, font, WORLD_WIDTH - 300, WORLD_HEIGHT - 40);
             }
         }
 
 
-        font.draw(batch, String.format("Health: %.0f/%.0f", playerHealth, playerMaxHealth),
-            20, WORLD_HEIGHT - 40);
+        long health = Math.round(snapshot.getPlayerHealth());
+        long maxHealth = Math.round(snapshot.getPlayerMaxHealth());
+        if (healthLabel.changed(health, maxHealth)) {
+            healthLabel.append("Health: ").append(health).append('/').append(maxHealth);
+        }
+        healthLabel.draw(batch, font, 20, WORLD_HEIGHT - 40);
 
-        font.draw(batch, String.format("Kills: %d", playerKills),
-            20, WORLD_HEIGHT - 60);
+        if (killsLabel.changed(snapshot.getPlayerKills())) {
+            killsLabel.append("Kills: ").append(snapshot.getPlayerKills());
+        }
+        killsLabel.draw(batch, font, 20, WORLD_HEIGHT - 60);
 
 
-        font.draw(batch, String.format("Level: %d | XP: %d/%d",
-                playerLevel, playerXP, xpToNextLevel),
-            20, WORLD_HEIGHT - 80);
+        if (levelLabel.changed(snapshot.getPlayerLevel(), playerXP, xpToNextLevel, null)) {
+            levelLabel.append("Level: ").append(snapshot.getPlayerLevel())
+                .append(" | XP: ").append(playerXP).append('/').append(xpToNextLevel);
+        }
+        levelLabel.draw(batch, font, 20, WORLD_HEIGHT - 80);
 
         float xpBarWidth = 150;
         float xpBarHeight = 10;
@@ -1582,22 +1446,29 @@ public class GameView implements Screen {
 
 
         font.setColor(1, 1, 1, 1);
-        font.draw(batch, String.format("XP: %d/%d", playerXP, xpToNextLevel),
-            xpBarX + xpBarWidth + 40, xpBarY + xpBarHeight - 2);
+        if (xpLabel.changed(playerXP, xpToNextLevel)) {
+            xpLabel.append("XP: ").append(playerXP).append('/').append(xpToNextLevel);
+        }
+        xpLabel.draw(batch, font, xpBarX + xpBarWidth + 40, xpBarY + xpBarHeight - 2);
 
 
-        String autoAimStatus = autoAim ? "ON" : "OFF";
-        font.draw(batch, "Auto-Aim: " + autoAimStatus, 20, WORLD_HEIGHT - 100);
+        font.draw(batch, autoAim ? AUTO_AIM_ON : AUTO_AIM_OFF, 20, WORLD_HEIGHT - 100);
 
 
-        if (damageBoostTimer > 0) {
-            font.draw(batch, String.format("Damage Boost: %.1fs", damageBoostTimer),
-                20, WORLD_HEIGHT - 120);
+        if (snapshot.getDamageBoostTimer() > 0) {
+            long tenths = Math.round(snapshot.getDamageBoostTimer() * 10);
+            if (damageBoostLabel.changed(tenths)) {
+                damageBoostLabel.append("Damage Boost: ").appendTenths(tenths).append('s');
+            }
+            damageBoostLabel.draw(batch, font, 20, WORLD_HEIGHT - 120);
         }
 
-        if (speedBoostTimer > 0) {
-            font.draw(batch, String.format("Speed Boost: %.1fs", speedBoostTimer),
-                20, WORLD_HEIGHT - 140);
+        if (snapshot.getSpeedBoostTimer() > 0) {
+            long tenths = Math.round(snapshot.getSpeedBoostTimer() * 10);
+            if (speedBoostLabel.changed(tenths)) {
+                speedBoostLabel.append("Speed Boost: ").appendTenths(tenths).append('s');
+            }
+            speedBoostLabel.draw(batch, font, 20, WORLD_HEIGHT - 140);
         }
 
 
@@ -1634,7 +1505,10 @@ public class GameView implements Screen {
 
         font.setColor(Color.WHITE);
         if (selectedHero != null) {
-            font.draw(batch, "Hero: " + selectedHero.getName(),
+            if (heroLabel.changed(0, 0, 0, selectedHero)) {
+                heroLabel.append("Hero: ").append(selectedHero.getName());
+            }
+            heroLabel.draw(batch, font,
                 WORLD_WIDTH - 300, WORLD_HEIGHT - 100 - (Math.max(playerAbilities.size, 0) * (abilityIconSize + abilitySpacing)));
         }
 
@@ -1668,20 +1542,37 @@ public class GameView implements Screen {
 
     @Override
     public void hide() {
-
+        stopSimulation();
     }
 
     @Override
     public void show() {
 
         loadMenuAssets();
+
+        if (simulation == null && GameSettings.getInstance().isThreadedSimulation()) {
+            simulation = new SimulationThread(world, WORLD_WIDTH, WORLD_HEIGHT);
+            simulation.start();
+        }
+    }
+
+    private void stopSimulation() {
+        if (simulation != null) {
+            simulation.stop();
+            simulation = null;
+        }
     }
 
     @Override
     public void dispose() {
+        stopSimulation();
+        profiler.stopCsvRecording();
         batch.dispose();
-        backgroundTexture.dispose();
-        playerTexture.dispose();
+
+        GameAssetManager assets = GameAssetManager.getGameAssetManager();
+        assets.disposeGameplayRegion(fallbackPlayerFrame);
+        assets.unload(AssetManifest.GAME);
+        assets.unload(AssetManifest.GAME_OVER);
 
         if (pixelTexture != null) {
             pixelTexture.dispose();
@@ -1699,110 +1590,82 @@ public class GameView implements Screen {
             optionFont.dispose();
         }
 
-        if (descriptionFont != null) {
-            descriptionFont.dispose();
+        if (hudFont != null) {
+            hudFont.dispose();
         }
 
-        if (currentWeapon != null) {
-            currentWeapon.dispose();
+        if (cheatFont != null) {
+            cheatFont.dispose();
         }
 
-        if (lightTexture != null) {
-            lightTexture.dispose();
+        if (cardFont != null) {
+            cardFont.dispose();
         }
-    }
-
 
-    public Vector2 getPlayerPosition() {
-        return playerPosition;
-    }
-
-    public Rectangle getPlayerBounds() {
-        return playerBounds;
-    }
-
-    public boolean isGameOver() {
-        return gameOver;
-    }
-
-
-    public void setGameOver(boolean gameOver) {
-        this.gameOver = gameOver;
-    }
+        if (descriptionFont != null) {
+            descriptionFont.dispose();
+        }
 
+        world.dispose();
+        EnemyType.disposeTextures();
+        ItemType.disposeTextures();
+        BulletSystem.disposeTexture();
 
-    public void setWeapon(WeaponType weaponType) {
-        if (currentWeapon != null) {
-            currentWeapon.dispose();
+        if (lightTexture != null) {
+            lightTexture.dispose();
         }
-        currentWeapon = new Weapon(weaponType);
     }
 
 
-    public Weapon getCurrentWeapon() {
-        return currentWeapon;
+    private void recordResult(boolean timeUp, boolean playerDead, int kills, float survivalTime) {
+        resultRecorded = true;
+        resultTimeUp = timeUp;
+        resultPlayerDead = playerDead;
+        resultKills = kills;
+        resultSurvivalTime = survivalTime;
     }
 
     public boolean isTimeUp() {
-        return gameTimeElapsed >= gameTimeMinutes * 60;
+        return resultRecorded ? resultTimeUp : snapshot.isTimeUp();
     }
 
     public boolean isPlayerDead() {
-        return playerHealth <= 0;
+        return resultRecorded ? resultPlayerDead : snapshot.isPlayerDead();
     }
 
     public int getPlayerKills() {
-        return playerKills;
+        return resultRecorded ? resultKills : snapshot.getPlayerKills();
     }
 
     public float getSurvivalTime() {
-        return gameTimeElapsed;
+        return resultRecorded ? resultSurvivalTime : snapshot.getSurvivalTime();
     }
 
-    public boolean decreaseGameTime(float seconds) {
+    public boolean decreaseGameTime(int seconds) {
+        if (snapshot.getRemainingGameTime() <= seconds) return false;
 
-        float remainingTime = gameTimeMinutes * 60 - gameTimeElapsed;
-        if (remainingTime > seconds) {
-            gameTimeElapsed += seconds;
-            return true;
-        }
-        return false;
+        commands.send(WorldCommands.DECREASE_TIME, seconds);
+        return true;
     }
 
         public void forceLevelUp() {
-            SoundManager.getInstance().play(SoundManager.LEVEL_UP,0.9f);
-            playerLevel++;
-
-        xpToNextLevel = 20 * playerLevel;
-
-
-        showAbilitySelection = true;
-
-
-        abilityChoices = getRandomAbilities(3);
-
-
-        controller.pauseGame();
+        commands.send(WorldCommands.FORCE_LEVEL_UP);
     }
 
         public void refillPlayerHealth() {
-        playerHealth = playerMaxHealth;
+        commands.send(WorldCommands.REFILL_HEALTH);
     }
 
-        public float getPlayerHealth() {
-        return playerHealth;
+        public void startBossFight() {
+        commands.send(WorldCommands.BOSS_FIGHT);
     }
 
-        public float getPlayerMaxHealth() {
-        return playerMaxHealth;
-    }
-
-        public float getRemainingGameTime() {
-        return gameTimeMinutes * 60 - gameTimeElapsed;
+        public float getPlayerHealth() {
+        return snapshot.getPlayerHealth();
     }
 
-        public EnemyManager getEnemyManager() {
-        return enemyManager;
+        public float getPlayerMaxHealth() {
+        return snapshot.getPlayerMaxHealth();
     }
 
 }
@@ -0,0 +1,91 @@
+package com.tilldawn.Views;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+
+public class HudLabel {
+    private final StringBuilder text = new StringBuilder(48);
+    private final GlyphLayout layout = new GlyphLayout();
+    private boolean layoutDirty = true;
+    private boolean initialized = false;
+
+    private long first;
+    private long second;
+    private long third;
+    private Object tag;
+
+    public boolean changed(long value) {
+        return changed(value, 0, 0, null);
+    }
+
+    public boolean changed(long first, long second) {
+        return changed(first, second, 0, null);
+    }
+
+    public boolean changed(long first, long second, long third, Object tag) {
+        if (initialized && first == this.first && second == this.second
+            && third == this.third && tag == this.tag) {
+            return false;
+        }
+
+        this.first = first;
+        this.second = second;
+        this.third = third;
+        this.tag = tag;
+        initialized = true;
+        layoutDirty = true;
+        text.setLength(0);
+        return true;
+    }
+
+    public HudLabel append(String value) {
+        text.append(value);
+        return this;
+    }
+
+    public HudLabel append(char value) {
+        text.append(value);
+        return this;
+    }
+
+    public HudLabel append(long value) {
+        text.append(value);
+        return this;
+    }
+
+    public HudLabel appendPadded(long value, int width) {
+        if (value >= 0) {
+            long limit = 10;
+            for (int digits = 1; digits < width; digits++) {
+                if (value < limit) {
+                    text.append('0');
+                }
+                limit *= 10;
+            }
+        }
+        text.append(value);
+        return this;
+    }
+
+    public HudLabel appendTenths(long tenths) {
+        if (tenths < 0) {
+            text.append('-');
+            tenths = -tenths;
+        }
+        text.append(tenths / 10).append('.').append(tenths % 10);
+        return this;
+    }
+
+    public void draw(Batch batch, BitmapFont font, float x, float y) {
+        if (layoutDirty) {
+            layout.setText(font, text);
+            layoutDirty = false;
+        }
+        font.draw(batch, layout, x, y);
+    }
+
+    public CharSequence getText() {
+        return text;
+    }
+}
@@ -0,0 +1,138 @@
+package com.tilldawn.Views;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.ScreenUtils;
+import com.tilldawn.Main;
+import com.tilldawn.Models.AssetManifest;
+import com.tilldawn.Models.GameAssetManager;
+import com.tilldawn.Models.SaveData;
+
+public class LoadingScreen implements Screen {
+    private static final int LOAD_BUDGET_MILLIS = 12;
+    private static final float BAR_WIDTH = 400;
+    private static final float BAR_HEIGHT = 24;
+
+    public interface ScreenFactory {
+        Screen create();
+    }
+
+    private final ScreenFactory nextScreen;
+    private final AssetManifest[] manifests;
+
+    private SpriteBatch batch;
+    private BitmapFont font;
+    private Texture pixelTexture;
+    private final GlyphLayout layout = new GlyphLayout();
+    private float displayedProgress;
+    private boolean finished;
+
+    public LoadingScreen(ScreenFactory nextScreen, AssetManifest... manifests) {
+        this.nextScreen = nextScreen;
+        this.manifests = manifests;
+    }
+
+    @Override
+    public void show() {
+        batch = new SpriteBatch();
+        font = new BitmapFont();
+        font.getData().setScale(1.5f);
+
+        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixmap.setColor(Color.WHITE);
+        pixmap.fill();
+        pixelTexture = new Texture(pixmap);
+        pixmap.dispose();
+
+        GameAssetManager assets = GameAssetManager.getGameAssetManager();
+        for (AssetManifest manifest : manifests) {
+            assets.load(manifest);
+        }
+    }
+
+    @Override
+    public void render(float delta) {
+        if (finished) return;
+
+        GameAssetManager assets = GameAssetManager.getGameAssetManager();
+        boolean done = assets.update(LOAD_BUDGET_MILLIS);
+        displayedProgress = Math.max(displayedProgress, assets.getProgress());
+
+        ScreenUtils.clear(0, 0, 0, 1);
+        drawProgress();
+
+        if (done) {
+            finished = true;
+            Main.getMain().setScreen(nextScreen.create());
+            dispose();
+        }
+    }
+
+    private void drawProgress() {
+        float width = Gdx.graphics.getWidth();
+        float height = Gdx.graphics.getHeight();
+        float barX = (width - BAR_WIDTH) / 2;
+        float barY = height / 2 - BAR_HEIGHT / 2;
+
+        batch.begin();
+
+        batch.setColor(0.2f, 0.2f, 0.25f, 1);
+        batch.draw(pixelTexture, barX, barY, BAR_WIDTH, BAR_HEIGHT);
+
+        batch.setColor(0.2f, 0.8f, 0.2f, 1);
+        batch.draw(pixelTexture, barX, barY, BAR_WIDTH * displayedProgress, BAR_HEIGHT);
+
+        batch.setColor(Color.WHITE);
+        layout.setText(font, "Loading... " + (int) (displayedProgress * 100) + "%");
+        font.draw(batch, layout, (width - layout.width) / 2, barY + BAR_HEIGHT + 40);
+
+        SaveData saveData = SaveData.getInstance();
+        if (saveData.isMigrating()) {
+            layout.setText(font, "Migrating saves... " + (int) (saveData.getMigrationProgress() * 100) + "%");
+            font.draw(batch, layout, (width - layout.width) / 2, barY - 20);
+        }
+
+        batch.end();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        if (batch != null) {
+            batch.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+        }
+    }
+
+    @Override
+    public void pause() {
+    }
+
+    @Override
+    public void resume() {
+    }
+
+    @Override
+    public void hide() {
+    }
+
+    @Override
+    public void dispose() {
+        if (batch != null) {
+            batch.dispose();
+            batch = null;
+        }
+        if (font != null) {
+            font.dispose();
+            font = null;
+        }
+        if (pixelTexture != null) {
+            pixelTexture.dispose();
+            pixelTexture = null;
+        }
+    }
+}
@@ -50,6 +50,8 @@ public class MainMenu implements Screen {
     private TextButton saveGame;
 
     private Array<Texture> generatedTextures = new Array<>();
+    private String shownAvatarPath;
+    private String loadedAvatarPath;
     private ArrayList<TextButton> menus = new ArrayList<>();
     private TextButton exit;
 
@@ -273,9 +275,17 @@ public class MainMenu implements Screen {
             gamePlayedLabel.setText(String.valueOf(currentUser.getTotalGamesPlayed()));
 
 
-            if (currentUser.getAvatarPath() != null && !currentUser.getAvatarPath().isEmpty()) {
+            String avatarPath = currentUser.getAvatarPath() != null ? currentUser.getAvatarPath() : "";
+            if (avatarPath.equals(shownAvatarPath)) {
+                return;
+            }
+            releaseAvatar();
+            shownAvatarPath = avatarPath;
+
+            if (!avatarPath.isEmpty()) {
                 try {
-                    Texture avatarTexture = new Texture(Gdx.files.internal(currentUser.getAvatarPath()));
+                    Texture avatarTexture = GameAssetManager.getGameAssetManager().acquireTexture(avatarPath);
+                    loadedAvatarPath = avatarPath;
                     userAvatar.setDrawable(new TextureRegionDrawable(new TextureRegion(avatarTexture)));
                 } catch (Exception e) {
 
@@ -334,6 +344,15 @@ public class MainMenu implements Screen {
 
     @Override
     public void hide() {
+        releaseAvatar();
+    }
+
+    private void releaseAvatar() {
+        if (loadedAvatarPath != null) {
+            GameAssetManager.getGameAssetManager().releaseTexture(loadedAvatarPath);
+            loadedAvatarPath = null;
+        }
+        shownAvatarPath = null;
     }
 
     @Override
@@ -341,6 +360,7 @@ public class MainMenu implements Screen {
         if (stage != null) {
             stage.dispose();
         }
+        releaseAvatar();
 
 
         for (Texture texture : generatedTextures) {
@@ -708,7 +708,7 @@ public class PreGameMenu implements Screen {
                 public void run() {
 
                     GameController gameController = new GameController(selectedHero, selectedWeapon, selectedTime);
-                    Main.getMain().setScreen(gameController.getGameScreen());
+                    gameController.startGame();
                 }
             })
         ));
@@ -43,6 +43,7 @@ public class ProfileMenu implements Screen {
 
 
     private Image userAvatar;
+    private String loadedAvatarPath;
     private Image avatarFrame;
     private Table avatarTable;
     private static final float AVATAR_SIZE = 120;
@@ -338,6 +339,7 @@ public class ProfileMenu implements Screen {
 
     @Override
     public void hide() {
+        releaseAvatar();
     }
 
     @Override
@@ -345,6 +347,14 @@ public class ProfileMenu implements Screen {
         if (stage != null) {
             stage.dispose();
         }
+        releaseAvatar();
+    }
+
+    private void releaseAvatar() {
+        if (loadedAvatarPath != null) {
+            GameAssetManager.getGameAssetManager().releaseTexture(loadedAvatarPath);
+            loadedAvatarPath = null;
+        }
     }
 
     private void loadUserAvatar(String username) {
@@ -358,7 +368,9 @@ public class ProfileMenu implements Screen {
         if (user != null && user.getAvatarPath() != null && !user.getAvatarPath().isEmpty()) {
             try {
 
-                Texture avatarTexture = new Texture(Gdx.files.internal(user.getAvatarPath()));
+                releaseAvatar();
+                Texture avatarTexture = GameAssetManager.getGameAssetManager().acquireTexture(user.getAvatarPath());
+                loadedAvatarPath = user.getAvatarPath();
                 avatarTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
                 userAvatar = new Image(avatarTexture);
             } catch (Exception e) {
@@ -15,6 +15,7 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Array;
@@ -22,16 +23,19 @@ import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.tilldawn.Controllers.MainMenuController;
 import com.tilldawn.Main;
 import com.tilldawn.Models.GameAssetManager;
+import com.tilldawn.Models.Leaderboard;
 import com.tilldawn.Models.SaveData;
 import com.tilldawn.Models.User;
 
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.List;
 
 public class ScoreBoardMenu implements Screen{
     private static final float WORLD_WIDTH = 800;
     private static final float WORLD_HEIGHT = 480;
+    private static final float ROW_HEIGHT = 46;
+    private static final float ROW_WIDTH = 616;
+    private static final int PAGE_SIZE = 50;
 
     private final MainMenuController controller;
     private final Stage stage;
@@ -57,18 +61,24 @@ public class ScoreBoardMenu implements Screen{
     private BitmapFont titleFont;
     private BitmapFont headerFont;
     private BitmapFont regularFont;
+    private Label.LabelStyle rowLabelStyle;
+    private Drawable rowBackground;
+    private Drawable highlightBackground;
+    private Drawable[] medalDrawables;
 
 
-    private enum SortType {
-        SCORE, USERNAME, KILLS, SURVIVAL_TIME
-    }
-
-    private SortType currentSortType = SortType.SCORE;
+    private Leaderboard.SortType currentSortType = Leaderboard.SortType.SCORE;
     private boolean sortAscending = false;
 
 
-    private Table scoreboardTable;
+    private LeaderboardRows leaderboardRows;
     private ScrollPane scrollPane;
+    private Label playerRankLabel;
+
+
+    private int userCount;
+    private int pageOffset;
+    private List<User> page = Collections.emptyList();
 
     public ScoreBoardMenu(MainMenuController controller) {
         this.controller = controller;
@@ -76,6 +86,7 @@ public class ScoreBoardMenu implements Screen{
         this.stage = new Stage(new FitViewport(WORLD_WIDTH, WORLD_HEIGHT));
         this.skin = GameAssetManager.getGameAssetManager().getSkin();
         this.saveData = SaveData.getInstance();
+        this.userCount = saveData.getUserCount();
 
 
         User currentUser = SaveData.getCurrentUser();
@@ -120,6 +131,15 @@ public class ScoreBoardMenu implements Screen{
         regularFont = new BitmapFont();
         regularFont.getData().setScale(1.5f);
         regularFont.setColor(Color.WHITE);
+
+        rowLabelStyle = new Label.LabelStyle(regularFont, Color.WHITE);
+        rowBackground = new TextureRegionDrawable(new TextureRegion(tableRowTexture));
+        highlightBackground = new TextureRegionDrawable(new TextureRegion(tableHighlightTexture));
+        medalDrawables = new Drawable[] {
+            new TextureRegionDrawable(new TextureRegion(goldMedalTexture)),
+            new TextureRegionDrawable(new TextureRegion(silverMedalTexture)),
+            new TextureRegionDrawable(new TextureRegion(bronzeMedalTexture))
+        };
     }
 
     private Texture createMedalTexture(Color color, int size) {
@@ -156,11 +176,15 @@ public class ScoreBoardMenu implements Screen{
         Table filterTable = createFilterPanel();
 
 
-        scoreboardTable = new Table();
-        updateScoreboardTable();
+        playerRankLabel = new Label("", new Label.LabelStyle(regularFont, Color.WHITE));
+        updateRankLabel();
+
 
+        Table headerTable = createHeaderTable();
 
-        scrollPane = new ScrollPane(scoreboardTable);
+
+        leaderboardRows = new LeaderboardRows();
+        scrollPane = new ScrollPane(leaderboardRows);
         scrollPane.setFadeScrollBars(false);
         scrollPane.setScrollingDisabled(true, false);
 
@@ -176,7 +200,9 @@ public class ScoreBoardMenu implements Screen{
 
         mainTable.add(titleLabel).colspan(2).pad(20).row();
         mainTable.add(filterTable).colspan(2).pad(10).fillX().row();
-        mainTable.add(scrollPane).colspan(2).expand().fill().pad(10).row();
+        mainTable.add(playerRankLabel).colspan(2).row();
+        mainTable.add(headerTable).colspan(2).fillX().padLeft(10).padRight(10).padTop(10).row();
+        mainTable.add(scrollPane).colspan(2).expand().fill().padLeft(10).padRight(10).padBottom(10).row();
         mainTable.add(backButton).colspan(2).pad(10).width(240).height(50);
 
 
@@ -194,10 +220,10 @@ public class ScoreBoardMenu implements Screen{
         Label filterLabel = new Label("Sort By:", new Label.LabelStyle(headerFont, Color.WHITE));
 
 
-        TextButton scoreButton = createFilterButton("Score", SortType.SCORE);
-        TextButton usernameButton = createFilterButton("Username", SortType.USERNAME);
-        TextButton killsButton = createFilterButton("Kills", SortType.KILLS);
-        TextButton survivalButton = createFilterButton("Survival Time", SortType.SURVIVAL_TIME);
+        TextButton scoreButton = createFilterButton("Score", Leaderboard.SortType.SCORE);
+        TextButton usernameButton = createFilterButton("Username", Leaderboard.SortType.USERNAME);
+        TextButton killsButton = createFilterButton("Kills", Leaderboard.SortType.KILLS);
+        TextButton survivalButton = createFilterButton("Survival Time", Leaderboard.SortType.SURVIVAL_TIME);
 
 
         filterTable.add(filterLabel).padRight(20);
@@ -209,7 +235,7 @@ public class ScoreBoardMenu implements Screen{
         return filterTable;
     }
 
-    private TextButton createFilterButton(String text, final SortType sortType) {
+    private TextButton createFilterButton(String text, final Leaderboard.SortType sortType) {
         TextButton.TextButtonStyle buttonStyle = new TextButton.TextButtonStyle();
         buttonStyle.font = regularFont;
         buttonStyle.up = new TextureRegionDrawable(new TextureRegion(buttonTexture));
@@ -237,7 +263,11 @@ public class ScoreBoardMenu implements Screen{
                 button.setText(text + (sortAscending ? " ↑" : " ↓"));
 
 
-                updateScoreboardTable();
+                scrollPane.setScrollY(0);
+                scrollPane.updateVisualScroll();
+                page = Collections.emptyList();
+                updateRankLabel();
+                leaderboardRows.refresh();
             }
         });
 
@@ -253,95 +283,143 @@ public class ScoreBoardMenu implements Screen{
         return new TextButton(text, buttonStyle);
     }
 
-    private void updateScoreboardTable() {
-        scoreboardTable.clear();
-
-
-
-
-
-
-
-
+    private Table createHeaderTable() {
         Table headerTable = new Table();
-        if (tableHeaderTexture != null) {
-            headerTable.setBackground(new TextureRegionDrawable(new TextureRegion(tableHeaderTexture)));
-        }
+        headerTable.setBackground(new TextureRegionDrawable(new TextureRegion(tableHeaderTexture)));
         headerTable.pad(10);
         headerTable.add(new Label("Rank", new Label.LabelStyle(headerFont, Color.WHITE))).width(60).padRight(10);
         headerTable.add(new Label("Username", new Label.LabelStyle(headerFont, Color.WHITE))).width(150).padRight(10);
         headerTable.add(new Label("Score", new Label.LabelStyle(headerFont, Color.WHITE))).width(100).padRight(10);
         headerTable.add(new Label("Kills", new Label.LabelStyle(headerFont, Color.WHITE))).width(100).padRight(10);
         headerTable.add(new Label("Survival Time", new Label.LabelStyle(headerFont, Color.WHITE))).width(150);
+        return headerTable;
+    }
 
-        scoreboardTable.add(headerTable).fillX().row();
 
+    private void updateRankLabel() {
+        int rank = currentUsername.isEmpty() ? -1 : saveData.getLeaderboardRank(currentUsername, currentSortType);
+        if (rank < 0) {
+            playerRankLabel.setText("");
+            return;
+        }
 
-        List<User> users = getSortedUsers();
+        if (sortAscending) {
+            rank = userCount - rank + 1;
+        }
+        playerRankLabel.setText("Your Rank: " + rank + " / " + userCount);
+    }
 
+    private void ensurePageLoaded(int first, int count) {
+        if (first < pageOffset || first + count > pageOffset + page.size()) {
+            pageOffset = Math.max(0, first - (PAGE_SIZE - count) / 2);
+            page = saveData.getLeaderboardPage(currentSortType, sortAscending, pageOffset, PAGE_SIZE);
+        }
+    }
 
-        int userCount = Math.min(users.size(), 10);
 
+    private class LeaderboardRows extends WidgetGroup {
+        private final Array<LeaderboardRow> rows = new Array<>();
+        private int boundFirst = -1;
+        private int boundCount = -1;
+        private float boundHeight = -1;
 
-        for (int i = 0; i < userCount; i++) {
-            User user = users.get(i);
+        public void refresh() {
+            boundFirst = -1;
+            invalidateHierarchy();
+        }
 
+        @Override
+        public float getPrefWidth() {
+            return ROW_WIDTH;
+        }
 
-            Table rowTable = new Table();
-            rowTable.pad(8);
+        @Override
+        public float getPrefHeight() {
+            return userCount * ROW_HEIGHT;
+        }
 
+        @Override
+        public void layout() {
+            bindVisibleRows();
+        }
 
-            if (user.getUserName().equals(currentUsername)) {
+        @Override
+        public void act(float delta) {
+            bindVisibleRows();
+            super.act(delta);
+        }
 
-                if (tableHighlightTexture != null) {
-                    rowTable.setBackground(new TextureRegionDrawable(new TextureRegion(tableHighlightTexture)));
-                } else {
+        private void bindVisibleRows() {
+            int first = Math.max(0, (int)(scrollPane.getVisualScrollY() / ROW_HEIGHT));
+            int visible = (int)Math.ceil(scrollPane.getScrollHeight() / ROW_HEIGHT) + 1;
+            int count = Math.max(0, Math.min(userCount - first, visible));
 
-                    rowTable.setBackground(new TextureRegionDrawable(createColorTexture(0.3f, 0.5f, 0.8f, 0.7f)));
-                }
-            } else {
+            if (first == boundFirst && count == boundCount && getHeight() == boundHeight) {
+                return;
+            }
+            boundFirst = first;
+            boundCount = count;
+            boundHeight = getHeight();
 
-                if (tableRowTexture != null) {
-                    rowTable.setBackground(new TextureRegionDrawable(new TextureRegion(tableRowTexture)));
-                } else {
+            ensurePageLoaded(first, count);
+            count = Math.max(0, Math.min(count, pageOffset + page.size() - first));
 
-                    rowTable.setBackground(new TextureRegionDrawable(createColorTexture(0.2f, 0.2f, 0.2f, 0.7f)));
+            while (rows.size < count) {
+                LeaderboardRow row = new LeaderboardRow();
+                rows.add(row);
+                addActor(row);
+            }
+
+            for (int i = 0; i < rows.size; i++) {
+                LeaderboardRow row = rows.get(i);
+                if (i < count) {
+                    int rank = first + i;
+                    row.bind(rank, page.get(rank - pageOffset));
+                    row.setBounds(0, getHeight() - (rank + 1) * ROW_HEIGHT, getWidth(), ROW_HEIGHT);
+                    row.setVisible(true);
+                } else {
+                    row.setVisible(false);
                 }
             }
+        }
+    }
 
 
-            Table rankCell = new Table();
+    private class LeaderboardRow extends Table {
+        private final Image medalImage = new Image();
+        private final Label rankLabel = new Label("", rowLabelStyle);
+        private final Label nameLabel = new Label("", rowLabelStyle);
+        private final Label scoreLabel = new Label("", rowLabelStyle);
+        private final Label killsLabel = new Label("", rowLabelStyle);
+        private final Label survivalLabel = new Label("", rowLabelStyle);
 
+        LeaderboardRow() {
+            pad(8);
 
-            if (i == 0 && goldMedalTexture != null) {
-                Image medalImage = new Image(new TextureRegion(goldMedalTexture));
-                rankCell.add(medalImage).size(30, 30).padRight(5);
-            } else if (i == 1 && silverMedalTexture != null) {
-                Image medalImage = new Image(new TextureRegion(silverMedalTexture));
-                rankCell.add(medalImage).size(30, 30).padRight(5);
-            } else if (i == 2 && bronzeMedalTexture != null) {
-                Image medalImage = new Image(new TextureRegion(bronzeMedalTexture));
-                rankCell.add(medalImage).size(30, 30).padRight(5);
-            }
+            Table rankCell = new Table();
+            rankCell.add(medalImage).size(30, 30).padRight(5);
+            rankCell.add(rankLabel);
 
+            add(rankCell).width(60).padRight(10);
+            add(nameLabel).width(150).padRight(10);
+            add(scoreLabel).width(100).padRight(10);
+            add(killsLabel).width(100).padRight(10);
+            add(survivalLabel).width(150);
+        }
 
-            Label rankLabel = new Label(String.valueOf(i + 1), new Label.LabelStyle(regularFont, Color.WHITE));
-            rankCell.add(rankLabel);
+        void bind(int rank, User user) {
+            setBackground(user.getUserName().equals(currentUsername) ? highlightBackground : rowBackground);
+            medalImage.setDrawable(rank < medalDrawables.length ? medalDrawables[rank] : null);
 
 
             int minutes = (int)(user.getLongestSurvivalTime() / 60);
             int seconds = (int)(user.getLongestSurvivalTime() % 60);
-            String survivalTimeStr = String.format("%02d:%02d", minutes, seconds);
-
 
-            rowTable.add(rankCell).width(60).padRight(10);
-            rowTable.add(new Label(user.getUserName(), new Label.LabelStyle(regularFont, Color.WHITE))).width(150).padRight(10);
-            rowTable.add(new Label(String.valueOf(user.getHighScore()), new Label.LabelStyle(regularFont, Color.WHITE))).width(100).padRight(10);
-            rowTable.add(new Label(String.valueOf(user.getTotalKills()), new Label.LabelStyle(regularFont, Color.WHITE))).width(100).padRight(10);
-            rowTable.add(new Label(survivalTimeStr, new Label.LabelStyle(regularFont, Color.WHITE))).width(150);
-
-
-            scoreboardTable.add(rowTable).fillX().row();
+            rankLabel.setText(rank + 1);
+            nameLabel.setText(user.getUserName());
+            scoreLabel.setText(user.getHighScore());
+            killsLabel.setText(user.getTotalKills());
+            survivalLabel.setText(String.format("%02d:%02d", minutes, seconds));
         }
     }
 
@@ -355,47 +433,6 @@ public class ScoreBoardMenu implements Screen{
         return texture;
     }
 
-    private List<User> getSortedUsers() {
-        List<User> users = saveData.getAllUsers();
-
-
-        switch (currentSortType) {
-            case SCORE:
-                if (sortAscending) {
-                    users.sort(Comparator.comparingInt(User::getHighScore));
-                } else {
-                    users.sort(Comparator.comparingInt(User::getHighScore).reversed());
-                }
-                break;
-
-            case USERNAME:
-                if (sortAscending) {
-                    users.sort(Comparator.comparing(User::getUserName));
-                } else {
-                    users.sort(Comparator.comparing(User::getUserName).reversed());
-                }
-                break;
-
-            case KILLS:
-                if (sortAscending) {
-                    users.sort(Comparator.comparingInt(User::getTotalKills));
-                } else {
-                    users.sort(Comparator.comparingInt(User::getTotalKills).reversed());
-                }
-                break;
-
-            case SURVIVAL_TIME:
-                if (sortAscending) {
-                    users.sort(Comparator.comparingDouble(User::getLongestSurvivalTime));
-                } else {
-                    users.sort(Comparator.comparingDouble(User::getLongestSurvivalTime).reversed());
-                }
-                break;
-        }
-
-        return users;
-    }
-
     @Override
     public void render(float delta) {
 
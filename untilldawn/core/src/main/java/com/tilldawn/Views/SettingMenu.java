@@ -32,6 +32,7 @@ public class SettingMenu implements Screen {
 
     private CheckBox sfxEnableCheckbox;
     private CheckBox musicEnabledCheckbox;
+    private CheckBox threadedSimulationCheckbox;
     private Slider volumeSlider;
     private TextButton mainThemeButton;
     private TextButton secondaryThemeButton;
@@ -212,6 +213,12 @@ public class SettingMenu implements Screen {
         panelTable.add(controlOptionsTable).colspan(2).pad(PADDING / 2).expandX().fillX().row();
 
 
+        threadedSimulationCheckbox = new CheckBox(" Simulate on a separate thread", GameAssetManager.getGameAssetManager().getSkin());
+        threadedSimulationCheckbox.setChecked(controller.isThreadedSimulation());
+        threadedSimulationCheckbox.getLabel().setFontScale(1.2f);
+        panelTable.add(threadedSimulationCheckbox).colspan(2).pad(PADDING / 2).left().row();
+
+
         Image controlSeparator = createSeparator(1, new Color(0.5f, 0.5f, 0.5f, 1f));
         panelTable.add(controlSeparator).colspan(2).pad(PADDING).expandX().fillX().row();
 
@@ -255,6 +262,13 @@ public class SettingMenu implements Screen {
             }
         });
 
+        threadedSimulationCheckbox.addListener(new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent event, Actor actor) {
+                controller.setThreadedSimulation(threadedSimulationCheckbox.isChecked());
+            }
+        });
+
 
         mainThemeButton.addListener(new ClickListener() {
             @Override
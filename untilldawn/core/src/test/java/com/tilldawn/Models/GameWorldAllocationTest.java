@@ -0,0 +1,62 @@
+package com.tilldawn.Models;
+
+import com.tilldawn.Models.Hero.HeroType;
+import com.tilldawn.Models.Hero.WeaponType;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class GameWorldAllocationTest {
+    private static final long SEED = 42L;
+    private static final int WARMUP_TICKS = 6000;
+    private static final int MEASURED_TICKS = 1200;
+    private static final int WINDOWS = 5;
+
+    @Test
+    public void tickDoesNotAllocateOnceWarm() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+        Assume.assumeTrue(allocations.isThreadAllocatedMemorySupported());
+        allocations.setThreadAllocatedMemoryEnabled(true);
+
+        GameWorld world = new GameWorld(HeroType.DIAMOND, WeaponType.SMGS_DUAL, 20, SEED);
+        world.setAutoAim(true);
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            tick(world);
+        }
+
+
+        // A C2 compile request resolves the string constants of the compiled
+        // class on the requesting thread, so an odd window can pick up a few
+        // JVM-owned strings while compilation settles. Real per-tick garbage
+        // shows up in most windows, which moves the median.
+        long threadId = Thread.currentThread().getId();
+        long[] allocated = new long[WINDOWS];
+        for (int window = 0; window < WINDOWS; window++) {
+            long before = allocations.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < MEASURED_TICKS; i++) {
+                tick(world);
+            }
+            allocated[window] = allocations.getThreadAllocatedBytes(threadId) - before;
+        }
+
+        assertFalse(world.isGameOver());
+        String windows = Arrays.toString(allocated);
+        Arrays.sort(allocated);
+        assertEquals("median bytes allocated over " + MEASURED_TICKS + " ticks " + windows, 0, allocated[WINDOWS / 2]);
+    }
+
+    private static void tick(GameWorld world) {
+        world.tick(GameWorld.FIXED_TIMESTEP);
+        if (world.getPendingAbilityChoices() != null) {
+            world.selectAbility(world.getPendingAbilityChoices()[0]);
+        }
+    }
+}